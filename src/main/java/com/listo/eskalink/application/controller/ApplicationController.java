@@ -3,9 +3,20 @@ package com.listo.eskalink.application.controller;
 
 import com.listo.eskalink.application.dto.*;
 import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ExportFormat;
+import com.listo.eskalink.application.service.ApplicationChangeFeedService;
+import com.listo.eskalink.application.service.ApplicationExportService;
+import com.listo.eskalink.application.service.ApplicationInboxService;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService;
+import com.listo.eskalink.application.service.ApplicationStatusStreamService;
 import com.listo.eskalink.application.service.ApplicationService;
+import com.listo.eskalink.application.service.HiringFunnelService;
+import com.listo.eskalink.application.service.ResumeArchiveService;
+import com.listo.eskalink.application.service.ResumeUploadService;
 import com.listo.eskalink.common.dto.BaseResponse;
+import com.listo.eskalink.common.dto.CursorPageDto;
 import com.listo.eskalink.common.dto.PaginatedResponse;
+import com.listo.eskalink.common.exception.ValidationException;
 import com.listo.eskalink.job.enums.JobStatus;
 import com.listo.eskalink.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,14 +26,26 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,14 +58,28 @@ import java.util.stream.Collectors;
 @Tag(name = "Applications", description = "Job application management endpoints")
 public class ApplicationController {
 
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+
     private final ApplicationService applicationService;
+    private final ResumeUploadService resumeUploadService;
+    private final ApplicationExportService applicationExportService;
+    private final ApplicationInboxService applicationInboxService;
+    private final ApplicationStatusHistoryService statusHistoryService;
+    private final ResumeArchiveService resumeArchiveService;
+    private final HiringFunnelService hiringFunnelService;
+    private final ApplicationChangeFeedService changeFeedService;
+    private final ApplicationStatusStreamService statusStreamService;
 
     @PostMapping
     @PreAuthorize("hasRole('APPLICANT')")
     @Operation(summary = "Apply for Job", description = "Submit job application with resume (Applicant only)")
     public ResponseEntity<BaseResponse<ApplicationDto>> applyForJob(
             @Parameter(description = "Job ID", required = true) @RequestParam UUID jobId,
-            @Parameter(description = "Resume file (PDF/DOCX)", required = true) @RequestParam MultipartFile resume,
+            @Parameter(description = "Resume file (PDF/DOCX)") @RequestParam(required = false) MultipartFile resume,
+            @Parameter(description = "Key of a resume uploaded through a presigned URL") @RequestParam(required = false) String resumeKey,
+            @Parameter(description = "ID of a completed resumable resume upload") @RequestParam(required = false) UUID resumeUploadId,
+            @Parameter(description = "ID of a resume from the applicant's library") @RequestParam(required = false) UUID resumeId,
             @Parameter(description = "Cover letter (optional)") @RequestParam(required = false) String coverLetter,
             Authentication authentication) throws IOException {
 
@@ -52,6 +89,9 @@ public class ApplicationController {
         CreateApplicationRequest request = new CreateApplicationRequest();
         request.setJobId(jobId);
         request.setResume(resume);
+        request.setResumeKey(resumeKey);
+        request.setResumeUploadId(resumeUploadId);
+        request.setResumeId(resumeId);
         request.setCoverLetter(coverLetter);
 
         ApplicationDto applicationDto = applicationService.applyForJob(request, userDetails.getUserId());
@@ -60,6 +100,85 @@ public class ApplicationController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping("/resume-upload-url")
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "Request Resume Upload URL", description = "Get a presigned URL to upload a resume directly to storage (Applicant only)")
+    public ResponseEntity<BaseResponse<ResumeUploadUrlDto>> createResumeUploadUrl(
+            @Valid @RequestBody CreateResumeUploadRequest request,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        ResumeUploadUrlDto uploadUrlDto = applicationService.createResumeUploadUrl(request, userDetails.getUserId());
+        BaseResponse<ResumeUploadUrlDto> response = BaseResponse.success("Resume upload URL created successfully", uploadUrlDto);
+
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/resume-uploads")
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "Create Resumable Resume Upload", description = "Start a resumable chunked resume upload (Applicant only)")
+    public ResponseEntity<BaseResponse<ResumeUploadDto>> createResumeUpload(
+            @Valid @RequestBody CreateResumeUploadRequest request,
+            Authentication authentication) throws IOException {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        ResumeUploadDto uploadDto = resumeUploadService.createUpload(request, userDetails.getUserId());
+        BaseResponse<ResumeUploadDto> response = BaseResponse.success("Resume upload created successfully", uploadDto);
+
+        return ResponseEntity.created(URI.create("/api/applications/resume-uploads/" + uploadDto.getUploadId()))
+                .header(UPLOAD_OFFSET, String.valueOf(uploadDto.getOffset()))
+                .header(UPLOAD_LENGTH, String.valueOf(uploadDto.getLength()))
+                .body(response);
+    }
+
+    @GetMapping("/resume-uploads/{uploadId}")
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "Get Resume Upload Offset", description = "Get the number of bytes received for a resumable upload; also answers HEAD (Applicant only)")
+    public ResponseEntity<BaseResponse<ResumeUploadDto>> getResumeUpload(
+            @Parameter(description = "Upload ID", required = true) @PathVariable UUID uploadId,
+            Authentication authentication) throws IOException {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        ResumeUploadDto uploadDto = resumeUploadService.getUpload(uploadId, userDetails.getUserId());
+        BaseResponse<ResumeUploadDto> response = BaseResponse.success("Resume upload retrieved successfully", uploadDto);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header(UPLOAD_OFFSET, String.valueOf(uploadDto.getOffset()))
+                .header(UPLOAD_LENGTH, String.valueOf(uploadDto.getLength()))
+                .body(response);
+    }
+
+    @PatchMapping(value = "/resume-uploads/{uploadId}", consumes = "application/offset+octet-stream")
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "Upload Resume Chunk", description = "Append a chunk at the given Upload-Offset; the upload is stored once the last byte arrives (Applicant only)")
+    public ResponseEntity<BaseResponse<ResumeUploadDto>> uploadResumeChunk(
+            @Parameter(description = "Upload ID", required = true) @PathVariable UUID uploadId,
+            @Parameter(description = "Offset the chunk starts at", required = true) @RequestHeader(UPLOAD_OFFSET) long offset,
+            InputStream chunk,
+            Authentication authentication) throws IOException {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        ResumeUploadDto uploadDto = resumeUploadService.appendChunk(uploadId, userDetails.getUserId(), offset, chunk);
+        BaseResponse<ResumeUploadDto> response = BaseResponse.success("Resume chunk received successfully", uploadDto);
+
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET, String.valueOf(uploadDto.getOffset()))
+                .body(response);
+    }
+
+    @GetMapping(value = "/my-applications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "Stream Application Status", description = "Server-sent events with status changes of the applicant's applications (Applicant only)")
+    public SseEmitter streamMyApplicationStatus(Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        return statusStreamService.subscribe(userDetails.getUserId());
+    }
+
     @GetMapping("/my-applications")
     @PreAuthorize("hasRole('APPLICANT')")
     @Operation(summary = "Track My Applications", description = "Get list of jobs applied to by the applicant")
@@ -120,12 +239,33 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/inbox")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Company Inbox", description = "Newest applications across all of the company's jobs, paged with a cursor (Company only)")
+    public ResponseEntity<BaseResponse<CursorPageDto<InboxApplicationDto>>> getInbox(
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default: 20, max: 100)") @RequestParam(defaultValue = "20") Integer limit,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        CursorPageDto<InboxApplicationDto> inbox = applicationInboxService.getInbox(userDetails.getUserId(), cursor, limit);
+        BaseResponse<CursorPageDto<InboxApplicationDto>> response = BaseResponse.success("Inbox retrieved successfully", inbox);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('COMPANY')")
     @Operation(summary = "View Job Applications", description = "Get applications for a specific job (Company only)")
     public ResponseEntity<PaginatedResponse<CompanyApplicationDto>> getJobApplications(
             @Parameter(description = "Job ID", required = true) @PathVariable UUID jobId,
-            @Parameter(description = "Application status filter") @RequestParam(required = false) String status,
+            @Parameter(description = "Application statuses filter (comma-separated)") @RequestParam(required = false) String status,
+            @Parameter(description = "Applicant name filter") @RequestParam(required = false) String applicantName,
+            @Parameter(description = "Applied on or after (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedFrom,
+            @Parameter(description = "Applied on or before (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedTo,
+            @Parameter(description = "Sort by: appliedAt (default), applicantName or relevance") @RequestParam(defaultValue = "appliedAt") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDirection,
             @Parameter(description = "Page number (default: 1)") @RequestParam(defaultValue = "1") Integer pageNumber,
             @Parameter(description = "Page size (default: 10)") @RequestParam(defaultValue = "10") Integer pageSize,
             Authentication authentication) {
@@ -133,10 +273,18 @@ public class ApplicationController {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
         log.info("Get job applications request for job: {} from company: {}", jobId, userDetails.getUserId());
 
-        ApplicationStatus applicationStatus = null;
+        JobApplicationSearchRequest request = new JobApplicationSearchRequest();
+        request.setApplicantName(applicantName);
+        request.setAppliedFrom(appliedFrom);
+        request.setAppliedTo(appliedTo);
+
         if (status != null) {
             try {
-                applicationStatus = ApplicationStatus.valueOf(status.toUpperCase());
+                List<ApplicationStatus> statuses = List.of(status.split(","))
+                        .stream()
+                        .map(value -> ApplicationStatus.valueOf(value.trim().toUpperCase()))
+                        .collect(Collectors.toList());
+                request.setApplicationStatuses(statuses);
             } catch (IllegalArgumentException e) {
                 return ResponseEntity.badRequest().body(
                         PaginatedResponse.error("Invalid application status", List.of("Invalid application status: " + status))
@@ -144,21 +292,184 @@ public class ApplicationController {
             }
         }
 
-        List<CompanyApplicationDto> applications = applicationService.getJobApplications(
-                jobId, applicationStatus, pageNumber, pageSize, userDetails.getUserId()
+        request.setPageNumber(pageNumber);
+        request.setPageSize(pageSize);
+        request.setSortBy(sortBy);
+        request.setSortDirection(sortDirection);
+
+        Page<CompanyApplicationDto> applications = applicationService.getJobApplications(
+                jobId, request, userDetails.getUserId()
         );
 
         PaginatedResponse<CompanyApplicationDto> response = PaginatedResponse.success(
                 "Job applications retrieved successfully",
-                applications,
+                applications.getContent(),
                 pageNumber,
                 pageSize,
-                (long) applications.size()
+                applications.getTotalElements()
         );
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/job/{jobId}/search")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Search Job Applicants", description = "Full-text search over resumes and cover letters of a job's applicants (Company only)")
+    public ResponseEntity<PaginatedResponse<ApplicantSearchResultDto>> searchJobApplicants(
+            @Parameter(description = "Job ID", required = true) @PathVariable UUID jobId,
+            @Parameter(description = "Keywords, supports quoted phrases, OR and -exclusions", required = true) @RequestParam String query,
+            @Parameter(description = "Page number (default: 1)") @RequestParam(defaultValue = "1") Integer pageNumber,
+            @Parameter(description = "Page size (default: 10)") @RequestParam(defaultValue = "10") Integer pageSize,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        log.info("Search job applicants request for job: {} from company: {}", jobId, userDetails.getUserId());
+
+        List<ApplicantSearchResultDto> applicants = applicationService.searchJobApplicants(
+                jobId, query, pageNumber, pageSize, userDetails.getUserId()
+        );
+
+        PaginatedResponse<ApplicantSearchResultDto> response = PaginatedResponse.success(
+                "Applicants retrieved successfully",
+                applicants,
+                pageNumber,
+                pageSize,
+                (long) applicants.size()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/job/{jobId}/export")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Export Job Applications", description = "Stream all applications of a job as CSV or NDJSON (Company only)")
+    public ResponseEntity<StreamingResponseBody> exportJobApplications(
+            @Parameter(description = "Job ID", required = true) @PathVariable UUID jobId,
+            @Parameter(description = "Export format: csv (default) or ndjson") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Application status filter") @RequestParam(required = false) String status,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        log.info("Export job applications request for job: {} as {} from company: {}", jobId, format, userDetails.getUserId());
+
+        ExportFormat exportFormat = parseEnum(ExportFormat.class, format, "Invalid export format: " + format);
+        ApplicationStatus applicationStatus = status != null
+                ? parseEnum(ApplicationStatus.class, status, "Invalid application status: " + status)
+                : null;
+        applicationExportService.verifyJobOwner(jobId, userDetails.getUserId());
+
+        StreamingResponseBody body = output ->
+                applicationExportService.exportJobApplications(jobId, applicationStatus, exportFormat, output);
+        String extension = exportFormat == ExportFormat.CSV ? "csv" : "ndjson";
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat == ExportFormat.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications-" + jobId + "." + extension)
+                        .build()
+                        .toString())
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    @GetMapping("/job/{jobId}/changes")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Job Application Changes", description = "Applications of a job created or changed since the cursor, oldest change first (Company only)")
+    public ResponseEntity<BaseResponse<CursorPageDto<CompanyApplicationDto>>> getJobApplicationChanges(
+            @Parameter(description = "Job ID", required = true) @PathVariable UUID jobId,
+            @Parameter(description = "Cursor from the previous sync; omit to start from the beginning") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default: 100, max: 500)") @RequestParam(defaultValue = "100") Integer limit,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        CursorPageDto<CompanyApplicationDto> changes = changeFeedService.getJobChanges(
+                jobId, cursor, limit, userDetails.getUserId());
+        BaseResponse<CursorPageDto<CompanyApplicationDto>> response = BaseResponse.success("Application changes retrieved successfully", changes);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/job/{jobId}/funnel")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Hiring Funnel", description = "Applications entering each stage and time between stages for a job (Company only)")
+    public ResponseEntity<BaseResponse<HiringFunnelDto>> getJobFunnel(
+            @Parameter(description = "Job ID", required = true) @PathVariable UUID jobId,
+            @Parameter(description = "First day (yyyy-MM-dd), defaults to 90 days before to") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (yyyy-MM-dd), defaults to today") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        HiringFunnelDto funnel = hiringFunnelService.getJobFunnel(jobId, from, to, userDetails.getUserId());
+        BaseResponse<HiringFunnelDto> response = BaseResponse.success("Hiring funnel retrieved successfully", funnel);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/job/{jobId}/resumes")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Download Job Resumes", description = "Stream a ZIP archive of every uploaded resume of a job (Company only)")
+    public ResponseEntity<StreamingResponseBody> downloadJobResumes(
+            @Parameter(description = "Job ID", required = true) @PathVariable UUID jobId,
+            @Parameter(description = "Application status filter") @RequestParam(required = false) String status,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        log.info("Download job resumes request for job: {} from company: {}", jobId, userDetails.getUserId());
+
+        ApplicationStatus applicationStatus = status != null
+                ? parseEnum(ApplicationStatus.class, status, "Invalid application status: " + status)
+                : null;
+        applicationExportService.verifyJobOwner(jobId, userDetails.getUserId());
+
+        StreamingResponseBody body = output ->
+                resumeArchiveService.writeResumeArchive(jobId, applicationStatus, output);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("resumes-" + jobId + ".zip")
+                        .build()
+                        .toString())
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    @PutMapping("/status")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Bulk Update Application Status", description = "Update status of several job applications at once (Company only)")
+    public ResponseEntity<BaseResponse<BulkStatusUpdateDto>> bulkUpdateApplicationStatus(
+            @Valid @RequestBody BulkUpdateApplicationStatusRequest request,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        log.info("Bulk update application status request for {} applications from company: {}",
+                request.getApplicationIds().size(), userDetails.getUserId());
+
+        BulkStatusUpdateDto result = applicationService.bulkUpdateApplicationStatus(request, userDetails.getUserId());
+
+        BaseResponse<BulkStatusUpdateDto> response = BaseResponse.success("Application statuses updated successfully", result);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{applicationId}/history")
+    @Operation(summary = "Application Timeline", description = "Status history of an application (applicant or owning company)")
+    public ResponseEntity<BaseResponse<ApplicationTimelineDto>> getApplicationTimeline(
+            @Parameter(description = "Application ID", required = true) @PathVariable UUID applicationId,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        ApplicationTimelineDto timeline = statusHistoryService.getTimeline(applicationId, userDetails.getUserId());
+        BaseResponse<ApplicationTimelineDto> response = BaseResponse.success("Application timeline retrieved successfully", timeline);
+
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{applicationId}/status")
     @PreAuthorize("hasRole('COMPANY')")
     @Operation(summary = "Update Application Status", description = "Update status of a job application (Company only)")
@@ -178,4 +489,12 @@ public class ApplicationController {
 
         return ResponseEntity.ok(response);
     }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String message) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(message);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.listo.eskalink.application.controller;
+
+import com.listo.eskalink.application.dto.SavedResumeDto;
+import com.listo.eskalink.application.service.ResumeLibraryService;
+import com.listo.eskalink.common.dto.BaseResponse;
+import com.listo.eskalink.security.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/resumes")
+@RequiredArgsConstructor
+@Slf4j
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Resume Library", description = "Saved resume management endpoints")
+public class ResumeLibraryController {
+
+    private final ResumeLibraryService resumeLibraryService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "Save Resume", description = "Upload a resume to the applicant's library (Applicant only)")
+    public ResponseEntity<BaseResponse<SavedResumeDto>> saveResume(
+            @Parameter(description = "Resume file (PDF/DOCX)", required = true) @RequestParam MultipartFile resume,
+            @Parameter(description = "Display name (defaults to the file name)") @RequestParam(required = false) String name,
+            Authentication authentication) throws IOException {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        SavedResumeDto savedResumeDto = resumeLibraryService.saveResume(resume, name, userDetails.getUserId());
+        BaseResponse<SavedResumeDto> response = BaseResponse.success("Resume saved successfully", savedResumeDto);
+
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "List Saved Resumes", description = "Get the resumes in the applicant's library (Applicant only)")
+    public ResponseEntity<BaseResponse<List<SavedResumeDto>>> getResumes(Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        List<SavedResumeDto> resumes = resumeLibraryService.getResumes(userDetails.getUserId());
+        BaseResponse<List<SavedResumeDto>> response = BaseResponse.success("Resumes retrieved successfully", resumes);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{resumeId}")
+    @PreAuthorize("hasRole('APPLICANT')")
+    @Operation(summary = "Delete Saved Resume", description = "Remove a resume from the applicant's library (Applicant only)")
+    public ResponseEntity<BaseResponse<String>> deleteResume(
+            @Parameter(description = "Resume ID", required = true) @PathVariable UUID resumeId,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        resumeLibraryService.deleteResume(resumeId, userDetails.getUserId());
+        BaseResponse<String> response = BaseResponse.success("Resume deleted successfully", null);
+
+        return ResponseEntity.ok(response);
+    }
+}
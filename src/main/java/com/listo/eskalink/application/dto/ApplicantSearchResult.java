@@ -0,0 +1,18 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ApplicantSearchResult {
+    UUID getId();
+    String getApplicantName();
+    String getResumeLink();
+    ResumeStatus getResumeStatus();
+    String getCoverLetter();
+    ApplicationStatus getStatus();
+    LocalDateTime getAppliedAt();
+    Double getRank();
+}
@@ -0,0 +1,20 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class ApplicantSearchResultDto {
+    private UUID id;
+    private String applicantName;
+    private String resumeLink;
+    private ResumeStatus resumeStatus;
+    private String coverLetter;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+    private Double rank;
+}
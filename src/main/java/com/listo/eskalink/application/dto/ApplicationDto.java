@@ -1,6 +1,7 @@
 package com.listo.eskalink.application.dto;
 
 import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,7 @@ public class ApplicationDto {
     private String jobTitle;
     private String companyName;
     private String resumeLink;
+    private ResumeStatus resumeStatus;
     private String coverLetter;
     private ApplicationStatus status;
     private LocalDateTime appliedAt;
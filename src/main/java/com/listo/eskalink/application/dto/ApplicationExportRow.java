@@ -0,0 +1,22 @@
+package com.listo.eskalink.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ApplicationExportRow {
+    UUID getId();
+
+    String getApplicantName();
+
+    String getResumeLink();
+
+    String getResumeStatus();
+
+    String getCoverLetter();
+
+    String getStatus();
+
+    Double getRelevanceScore();
+
+    LocalDateTime getAppliedAt();
+}
@@ -0,0 +1,18 @@
+package com.listo.eskalink.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ApplicationInsertResult {
+    UUID getId();
+
+    LocalDateTime getAppliedAt();
+
+    String getJobTitle();
+
+    String getCompanyName();
+
+    String getCompanyEmail();
+
+    String getApplicantName();
+}
@@ -0,0 +1,28 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ApplicationStatusChange {
+    UUID getApplicationId();
+
+    UUID getJobId();
+
+    UUID getApplicantId();
+
+    ApplicationStatus getPreviousStatus();
+
+    LocalDateTime getPreviousStatusChangedAt();
+
+    LocalDateTime getChangedAt();
+
+    String getApplicantEmail();
+
+    String getApplicantName();
+
+    String getJobTitle();
+
+    String getCompanyName();
+}
@@ -0,0 +1,16 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class ApplicationStatusEventDto {
+    private UUID applicationId;
+    private UUID jobId;
+    private String jobTitle;
+    private ApplicationStatus status;
+    private LocalDateTime changedAt;
+}
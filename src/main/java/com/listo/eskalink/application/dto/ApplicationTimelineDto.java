@@ -0,0 +1,16 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class ApplicationTimelineDto {
+    private UUID applicationId;
+    private ApplicationStatus currentStatus;
+    private LocalDateTime appliedAt;
+    private List<StatusHistoryEntryDto> entries;
+}
@@ -0,0 +1,21 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkUpdateApplicationStatusRequest {
+
+    @NotEmpty(message = "Application IDs are required")
+    @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+    private List<@NotNull UUID> applicationIds;
+
+    @NotNull(message = "Status is required")
+    private ApplicationStatus status;
+}
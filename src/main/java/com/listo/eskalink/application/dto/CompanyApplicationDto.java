@@ -1,6 +1,7 @@
 package com.listo.eskalink.application.dto;
 
 import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -11,7 +12,9 @@ public class CompanyApplicationDto {
     private UUID id;
     private String applicantName;
     private String resumeLink;
+    private ResumeStatus resumeStatus;
     private String coverLetter;
     private ApplicationStatus status;
+    private Double relevanceScore;
     private LocalDateTime appliedAt;
 }
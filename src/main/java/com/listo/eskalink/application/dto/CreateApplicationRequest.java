@@ -13,9 +13,14 @@ public class CreateApplicationRequest {
     @NotNull(message = "Job ID is required")
     private UUID jobId;
 
-    @NotNull(message = "Resume file is required")
     private MultipartFile resume;
 
+    private String resumeKey;
+
+    private UUID resumeUploadId;
+
+    private UUID resumeId;
+
     @Size(max = 200, message = "Cover letter must not exceed 200 characters")
     private String coverLetter;
 }
@@ -0,0 +1,17 @@
+package com.listo.eskalink.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class CreateResumeUploadRequest {
+
+    @NotBlank(message = "Content type is required")
+    private String contentType;
+
+    @NotNull(message = "File size is required")
+    @Positive(message = "File size must be positive")
+    private Long size;
+}
@@ -0,0 +1,15 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+
+public interface FunnelDurationBucket {
+    ApplicationStatus getFromStatus();
+
+    ApplicationStatus getToStatus();
+
+    Integer getBucket();
+
+    Long getTransitions();
+
+    Long getTotalSeconds();
+}
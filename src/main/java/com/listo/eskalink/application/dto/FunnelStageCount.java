@@ -0,0 +1,9 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+
+public interface FunnelStageCount {
+    ApplicationStatus getStatus();
+
+    Long getEntered();
+}
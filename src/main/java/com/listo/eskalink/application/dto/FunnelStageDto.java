@@ -0,0 +1,11 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import lombok.Data;
+
+@Data
+public class FunnelStageDto {
+    private ApplicationStatus status;
+    private long entered;
+    private double conversionRate;
+}
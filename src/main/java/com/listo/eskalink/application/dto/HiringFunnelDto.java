@@ -0,0 +1,16 @@
+package com.listo.eskalink.application.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class HiringFunnelDto {
+    private UUID jobId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<FunnelStageDto> stages;
+    private List<StageDurationDto> stageDurations;
+}
@@ -0,0 +1,27 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface InboxApplication {
+    UUID getId();
+
+    UUID getJobId();
+
+    String getJobTitle();
+
+    String getApplicantName();
+
+    ApplicationStatus getStatus();
+
+    ResumeStatus getResumeStatus();
+
+    String getResumeLink();
+
+    Double getRelevanceScore();
+
+    LocalDateTime getAppliedAt();
+}
@@ -0,0 +1,21 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class InboxApplicationDto {
+    private UUID id;
+    private UUID jobId;
+    private String jobTitle;
+    private String applicantName;
+    private ApplicationStatus status;
+    private ResumeStatus resumeStatus;
+    private String resumeLink;
+    private Double relevanceScore;
+    private LocalDateTime appliedAt;
+}
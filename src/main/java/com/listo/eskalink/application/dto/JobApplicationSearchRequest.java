@@ -0,0 +1,18 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.common.dto.PageRequestDto;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class JobApplicationSearchRequest extends PageRequestDto {
+    private String applicantName;
+    private List<ApplicationStatus> applicationStatuses;
+    private LocalDate appliedFrom;
+    private LocalDate appliedTo;
+}
@@ -0,0 +1,16 @@
+package com.listo.eskalink.application.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class ResumeUploadDto {
+    private UUID uploadId;
+    private long offset;
+    private long length;
+    private boolean completed;
+    private String resumeLink;
+    private LocalDateTime expiresAt;
+}
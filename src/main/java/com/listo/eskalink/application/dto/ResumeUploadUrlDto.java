@@ -0,0 +1,15 @@
+package com.listo.eskalink.application.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+public class ResumeUploadUrlDto {
+    private String resumeKey;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> requiredHeaders;
+    private Instant expiresAt;
+}
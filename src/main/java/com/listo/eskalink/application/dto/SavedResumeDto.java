@@ -0,0 +1,16 @@
+package com.listo.eskalink.application.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class SavedResumeDto {
+    private UUID id;
+    private String name;
+    private String resumeLink;
+    private String contentType;
+    private Long size;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import lombok.Data;
+
+@Data
+public class StageDurationDto {
+    private ApplicationStatus fromStatus;
+    private ApplicationStatus toStatus;
+    private long transitions;
+    private long medianSeconds;
+    private long averageSeconds;
+}
@@ -0,0 +1,13 @@
+package com.listo.eskalink.application.dto;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class StatusHistoryEntryDto {
+    private ApplicationStatus fromStatus;
+    private ApplicationStatus toStatus;
+    private LocalDateTime changedAt;
+}
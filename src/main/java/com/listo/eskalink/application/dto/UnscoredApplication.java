@@ -0,0 +1,8 @@
+package com.listo.eskalink.application.dto;
+
+import java.util.UUID;
+
+public interface UnscoredApplication {
+    UUID getApplicationId();
+    UUID getJobId();
+}
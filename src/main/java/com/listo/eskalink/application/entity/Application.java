@@ -1,10 +1,12 @@
 package com.listo.eskalink.application.entity;
 
 import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
 import com.listo.eskalink.job.entity.Job;
 import com.listo.eskalink.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +15,16 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "applications",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"applicant_id", "job_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"applicant_id", "job_id"}),
+        indexes = {
+                @Index(name = "idx_applications_job_relevance", columnList = "job_id, relevance_score"),
+                @Index(name = "idx_applications_job_status_applied", columnList = "job_id, status, applied_at"),
+                @Index(name = "idx_applications_job_applied", columnList = "job_id, applied_at"),
+                @Index(name = "idx_applications_company_applied", columnList = "company_id, applied_at, id"),
+                @Index(name = "idx_applications_status_changed", columnList = "status_changed_at"),
+                @Index(name = "idx_applications_applied", columnList = "applied_at"),
+                @Index(name = "idx_applications_job_change_seq", columnList = "job_id, change_seq")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,9 +44,21 @@ public class Application {
     @JoinColumn(name = "job_id", nullable = false)
     private Job job;
 
+    /**
+     * Owner of the job, copied on insert so the company inbox can be read from one index.
+     */
+    @Column(name = "company_id")
+    private UUID companyId;
+
     @Column(name = "resume_link", nullable = false)
     private String resumeLink;
 
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'UPLOADED'")
+    @Column(name = "resume_status", nullable = false)
+    private ResumeStatus resumeStatus = ResumeStatus.UPLOADED;
+
     @Column(name = "cover_letter", length = 200)
     private String coverLetter;
 
@@ -43,6 +66,37 @@ public class Application {
     @Column(nullable = false)
     private ApplicationStatus status = ApplicationStatus.APPLIED;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private ApplicationStatus previousStatus;
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    /**
+     * When the application entered {@link #previousStatus}; the funnel measures time between stages from it.
+     */
+    @Column(name = "previous_status_changed_at")
+    private LocalDateTime previousStatusChangedAt;
+
+    @Column(name = "status_changed_by")
+    private UUID statusChangedBy;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "relevance_score", nullable = false)
+    private Double relevanceScore = 0.0;
+
+    @Column(name = "scored_at")
+    private LocalDateTime scoredAt;
+
+    /**
+     * Position in the change feed. Every update clears it through a database trigger and the change feed
+     * sequencer assigns the next value after commit, so it is never written by the application itself.
+     */
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @CreationTimestamp
     @Column(name = "applied_at", nullable = false, updatable = false)
     private LocalDateTime appliedAt;
@@ -0,0 +1,48 @@
+package com.listo.eskalink.application.entity;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One status transition of an application. Rows are only ever inserted; the unique
+ * {@code (application_id, changed_at)} key makes replayed writes no-ops and serves timeline range scans.
+ */
+@Entity
+@Table(name = "application_status_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_application_status_history_application_changed",
+                columnNames = {"application_id", "changed_at"}),
+        indexes = @Index(name = "idx_application_status_history_changed", columnList = "changed_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationStatusHistory {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "application_id", nullable = false)
+    private UUID applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private ApplicationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private ApplicationStatus toStatus;
+
+    @Column(name = "from_status_at")
+    private LocalDateTime fromStatusAt;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "changed_by")
+    private UUID changedBy;
+}
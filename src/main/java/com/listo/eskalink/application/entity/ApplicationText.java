@@ -0,0 +1,50 @@
+package com.listo.eskalink.application.entity;
+
+import com.listo.eskalink.application.enums.TextExtractionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Extracted resume and cover letter text of an application. The {@code search_vector} column and its
+ * GIN index are generated by the database and created on startup by {@code ApplicationTextIndexer}.
+ */
+@Entity
+@Table(name = "application_texts",
+        indexes = @Index(name = "idx_application_texts_job", columnList = "job_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationText {
+
+    @Id
+    @Column(name = "application_id")
+    private UUID applicationId;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TextExtractionStatus status;
+
+    @Column(name = "resume_text", columnDefinition = "TEXT")
+    private String resumeText;
+
+    @Column(name = "cover_letter", columnDefinition = "TEXT")
+    private String coverLetter;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
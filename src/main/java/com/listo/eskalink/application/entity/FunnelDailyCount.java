@@ -0,0 +1,50 @@
+package com.listo.eskalink.application.entity;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Number of applications of a job that entered a status on one day. Rows are only written by
+ * {@code HiringFunnelService}: incremented from live transitions and rewritten when closed days are compacted.
+ */
+@Entity
+@Table(name = "funnel_daily_counts",
+        indexes = @Index(name = "idx_funnel_daily_counts_job_day", columnList = "job_id, day"))
+@IdClass(FunnelDailyCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FunnelDailyCount {
+
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private ApplicationStatus status;
+
+    @Column(name = "entered", nullable = false)
+    private long entered;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID jobId;
+        private LocalDate day;
+        private ApplicationStatus status;
+    }
+}
@@ -0,0 +1,65 @@
+package com.listo.eskalink.application.entity;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Histogram of the time applications of a job spent in {@code fromStatus} before moving to {@code toStatus},
+ * per day of the move. Bucket {@code b} holds durations in {@code [2^b, 2^(b+1))} seconds, so medians can be
+ * estimated without keeping individual durations.
+ */
+@Entity
+@Table(name = "funnel_daily_durations",
+        indexes = @Index(name = "idx_funnel_daily_durations_job_day", columnList = "job_id, day"))
+@IdClass(FunnelDailyDuration.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FunnelDailyDuration {
+
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private ApplicationStatus fromStatus;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status")
+    private ApplicationStatus toStatus;
+
+    @Id
+    @Column(name = "bucket")
+    private int bucket;
+
+    @Column(name = "transitions", nullable = false)
+    private long transitions;
+
+    @Column(name = "total_seconds", nullable = false)
+    private long totalSeconds;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID jobId;
+        private LocalDate day;
+        private ApplicationStatus fromStatus;
+        private ApplicationStatus toStatus;
+        private int bucket;
+    }
+}
@@ -0,0 +1,45 @@
+package com.listo.eskalink.application.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "resume_uploads",
+        indexes = @Index(name = "idx_resume_uploads_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeUpload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "applicant_id", nullable = false)
+    private UUID applicantId;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "upload_length", nullable = false)
+    private Long uploadLength;
+
+    @Column(name = "resume_link")
+    private String resumeLink;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,42 @@
+package com.listo.eskalink.application.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "saved_resumes",
+        indexes = @Index(name = "idx_saved_resumes_applicant", columnList = "applicant_id, created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedResume {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "applicant_id", nullable = false)
+    private UUID applicantId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "resume_link", nullable = false)
+    private String resumeLink;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
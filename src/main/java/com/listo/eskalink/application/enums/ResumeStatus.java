@@ -0,0 +1,5 @@
+package com.listo.eskalink.application.enums;
+
+public enum ResumeStatus {
+    PENDING, UPLOADED, FAILED
+}
@@ -0,0 +1,10 @@
+package com.listo.eskalink.application.event;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ApplicationStatusChangedEvent(UUID applicationId, UUID applicantId, UUID jobId, String jobTitle,
+                                            ApplicationStatus status, LocalDateTime changedAt) {
+}
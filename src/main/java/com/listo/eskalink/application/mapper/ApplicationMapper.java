@@ -1,9 +1,14 @@
 package com.listo.eskalink.application.mapper;
 
 import com.listo.eskalink.application.dto.ApplicationDto;
+import com.listo.eskalink.application.dto.ApplicationExportRow;
 import com.listo.eskalink.application.dto.ApplicantApplicationDto;
 import com.listo.eskalink.application.dto.CompanyApplicationDto;
+import com.listo.eskalink.application.dto.SavedResumeDto;
+import com.listo.eskalink.application.dto.StatusHistoryEntryDto;
 import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.entity.ApplicationStatusHistory;
+import com.listo.eskalink.application.entity.SavedResume;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -24,4 +29,10 @@ public interface ApplicationMapper {
 
     @Mapping(source = "applicant.name", target = "applicantName")
     CompanyApplicationDto applicationToCompanyApplicationDto(Application application);
+
+    CompanyApplicationDto applicationExportRowToCompanyApplicationDto(ApplicationExportRow row);
+
+    SavedResumeDto savedResumeToSavedResumeDto(SavedResume savedResume);
+
+    StatusHistoryEntryDto statusHistoryToStatusHistoryEntryDto(ApplicationStatusHistory history);
 }
@@ -1,36 +1,58 @@
 package com.listo.eskalink.application.repository;
 
+import com.listo.eskalink.application.dto.ApplicationExportRow;
+import com.listo.eskalink.application.dto.ApplicationInsertResult;
+import com.listo.eskalink.application.dto.ApplicationStatusChange;
+import com.listo.eskalink.application.dto.InboxApplication;
 import com.listo.eskalink.application.entity.Application;
 import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
 import com.listo.eskalink.job.entity.Job;
 import com.listo.eskalink.job.enums.JobStatus;
 import com.listo.eskalink.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, UUID> {
+public interface ApplicationRepository extends JpaRepository<Application, UUID>, JpaSpecificationExecutor<Application> {
 
-    Page<Application> findByApplicant(User applicant, Pageable pageable);
+    String EXPORT_FETCH_SIZE = "500";
+
+    String INBOX_SELECT = "SELECT a.id AS \"id\", a.job_id AS \"jobId\", j.title AS \"jobTitle\", " +
+            "u.name AS \"applicantName\", a.status AS \"status\", a.resume_status AS \"resumeStatus\", " +
+            "a.resume_link AS \"resumeLink\", a.relevance_score AS \"relevanceScore\", a.applied_at AS \"appliedAt\" " +
+            "FROM applications a JOIN jobs j ON j.id = a.job_id JOIN users u ON u.id = a.applicant_id ";
 
-    Page<Application> findByJobAndJobCreatedBy(Job job, User jobCreatedBy, Pageable pageable);
+    Page<Application> findByApplicant(User applicant, Pageable pageable);
 
-    Page<Application> findByJobAndJobCreatedByAndStatus(Job job, User jobCreatedBy,
-                                                        ApplicationStatus status, Pageable pageable);
+    @Override
+    @EntityGraph(attributePaths = "applicant")
+    Page<Application> findAll(Specification<Application> specification, Pageable pageable);
 
     boolean existsByApplicantAndJob(User applicant, Job job);
 
     Optional<Application> findByIdAndJobCreatedBy(UUID id, User jobCreatedBy);
 
-    @Query("SELECT a FROM Application a WHERE a.applicant = :applicant AND " +
+    @Query("SELECT a FROM Application a WHERE a.applicant = :applicant AND a.job.deletedAt IS NULL AND " +
             "(:companyName IS NULL OR LOWER(a.job.createdBy.name) LIKE LOWER(CONCAT('%', :companyName, '%'))) AND " +
             "(:jobStatus IS NULL OR a.job.status = :jobStatus) AND " +
             "(:statuses IS NULL OR a.status IN :statuses)")
@@ -39,4 +61,148 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
                                                   @Param("jobStatus") JobStatus jobStatus,
                                                   @Param("statuses") List<ApplicationStatus> statuses,
                                                   Pageable pageable);
+
+    List<Application> findByJobId(UUID jobId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "applicant")
+    List<Application> findByJobIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(UUID jobId, long changeSeq,
+                                                                            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Application a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<UUID> ids);
+
+    /**
+     * Streams a job's applications through a server-side cursor; the caller must hold a transaction open
+     * and close the stream.
+     */
+    @Query(value = "SELECT a.id AS \"id\", u.name AS \"applicantName\", a.resume_link AS \"resumeLink\", " +
+            "a.resume_status AS \"resumeStatus\", a.cover_letter AS \"coverLetter\", a.status AS \"status\", " +
+            "a.relevance_score AS \"relevanceScore\", a.applied_at AS \"appliedAt\" " +
+            "FROM applications a JOIN users u ON u.id = a.applicant_id " +
+            "WHERE a.job_id = :jobId AND (CAST(:status AS varchar) IS NULL OR a.status = CAST(:status AS varchar)) " +
+            "ORDER BY a.applied_at, a.id",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<ApplicationExportRow> streamForExport(@Param("jobId") UUID jobId, @Param("status") String status);
+
+    @Query(value = "WITH open_job AS (" +
+            "SELECT j.id, j.title, j.created_by, c.name AS company_name, c.email AS company_email " +
+            "FROM jobs j JOIN users c ON c.id = j.created_by " +
+            "WHERE j.id = :jobId AND j.status = 'OPEN' AND j.deleted_at IS NULL), " +
+            "inserted AS (" +
+            "INSERT INTO applications (id, applicant_id, job_id, company_id, resume_link, resume_status, cover_letter, " +
+            "status, applied_at, updated_at) " +
+            "SELECT :id, :applicantId, open_job.id, open_job.created_by, :resumeLink, :resumeStatus, :coverLetter, 'APPLIED', " +
+            "LOCALTIMESTAMP, LOCALTIMESTAMP " +
+            "FROM open_job " +
+            "ON CONFLICT (applicant_id, job_id) DO NOTHING " +
+            "RETURNING id, job_id, resume_status, applied_at), " +
+            "pending_text AS (" +
+            "INSERT INTO application_texts (application_id, job_id, status, attempts, updated_at) " +
+            "SELECT id, job_id, 'PENDING', 0, LOCALTIMESTAMP FROM inserted WHERE resume_status = 'UPLOADED') " +
+            "SELECT i.id AS \"id\", i.applied_at AS \"appliedAt\", o.title AS \"jobTitle\", " +
+            "o.company_name AS \"companyName\", o.company_email AS \"companyEmail\", a.name AS \"applicantName\" " +
+            "FROM inserted i CROSS JOIN open_job o JOIN users a ON a.id = :applicantId",
+            nativeQuery = true)
+    @Transactional
+    Optional<ApplicationInsertResult> insertIfJobOpen(@Param("id") UUID id,
+                                                      @Param("applicantId") UUID applicantId,
+                                                      @Param("jobId") UUID jobId,
+                                                      @Param("resumeLink") String resumeLink,
+                                                      @Param("resumeStatus") String resumeStatus,
+                                                      @Param("coverLetter") String coverLetter);
+
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.id IN :ids AND a.job.createdBy.id = :companyId")
+    long countByIdInAndJobCreatedById(@Param("ids") Collection<UUID> ids, @Param("companyId") UUID companyId);
+
+    @Query(value = "WITH updated AS (" +
+            "UPDATE applications a SET previous_status = a.status, " +
+            "previous_status_changed_at = COALESCE(a.status_changed_at, a.applied_at), status = :status, " +
+            "status_changed_at = LOCALTIMESTAMP, status_changed_by = :companyId, updated_at = LOCALTIMESTAMP " +
+            "FROM jobs j " +
+            "WHERE j.id = a.job_id AND j.created_by = :companyId AND a.id IN (:ids) AND a.status <> :status " +
+            "RETURNING a.id, a.applicant_id, a.job_id, a.previous_status, a.previous_status_changed_at, " +
+            "a.status_changed_at) " +
+            "SELECT u.id AS \"applicationId\", u.job_id AS \"jobId\", u.applicant_id AS \"applicantId\", " +
+            "u.previous_status AS \"previousStatus\", " +
+            "u.previous_status_changed_at AS \"previousStatusChangedAt\", " +
+            "u.status_changed_at AS \"changedAt\", ap.email AS \"applicantEmail\", ap.name AS \"applicantName\", " +
+            "j.title AS \"jobTitle\", c.name AS \"companyName\" " +
+            "FROM updated u JOIN users ap ON ap.id = u.applicant_id " +
+            "JOIN jobs j ON j.id = u.job_id JOIN users c ON c.id = j.created_by",
+            nativeQuery = true)
+    @Transactional
+    List<ApplicationStatusChange> updateStatusForCompany(@Param("ids") Collection<UUID> ids,
+                                                         @Param("companyId") UUID companyId,
+                                                         @Param("status") String status);
+
+    @Query(value = "WITH batch AS (" +
+            "SELECT a.id FROM applications a JOIN jobs j ON j.id = a.job_id " +
+            "WHERE a.job_id = :jobId AND j.status = 'CLOSED' AND j.deleted_at IS NULL " +
+            "AND a.status IN ('APPLIED', 'REVIEWED', 'INTERVIEW') " +
+            "ORDER BY a.id LIMIT :limit FOR UPDATE OF a), " +
+            "updated AS (" +
+            "UPDATE applications a SET previous_status = a.status, " +
+            "previous_status_changed_at = COALESCE(a.status_changed_at, a.applied_at), status = 'REJECTED', " +
+            "status_changed_at = LOCALTIMESTAMP, status_changed_by = NULL, updated_at = LOCALTIMESTAMP " +
+            "FROM batch WHERE a.id = batch.id " +
+            "RETURNING a.id, a.applicant_id, a.job_id, a.previous_status, a.previous_status_changed_at, " +
+            "a.status_changed_at) " +
+            "SELECT u.id AS \"applicationId\", u.job_id AS \"jobId\", u.applicant_id AS \"applicantId\", " +
+            "u.previous_status AS \"previousStatus\", " +
+            "u.previous_status_changed_at AS \"previousStatusChangedAt\", " +
+            "u.status_changed_at AS \"changedAt\", ap.email AS \"applicantEmail\", ap.name AS \"applicantName\", " +
+            "j.title AS \"jobTitle\", c.name AS \"companyName\" " +
+            "FROM updated u JOIN users ap ON ap.id = u.applicant_id " +
+            "JOIN jobs j ON j.id = u.job_id JOIN users c ON c.id = j.created_by",
+            nativeQuery = true)
+    @Transactional
+    List<ApplicationStatusChange> rejectPendingOfClosedJob(@Param("jobId") UUID jobId, @Param("limit") int limit);
+
+    @Query(value = INBOX_SELECT + "WHERE a.company_id = :companyId AND j.deleted_at IS NULL " +
+            "ORDER BY a.applied_at DESC, a.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<InboxApplication> findInbox(@Param("companyId") UUID companyId, @Param("limit") int limit);
+
+    @Query(value = INBOX_SELECT + "WHERE a.company_id = :companyId AND j.deleted_at IS NULL " +
+            "AND (a.applied_at, a.id) < (:appliedAt, :id) " +
+            "ORDER BY a.applied_at DESC, a.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<InboxApplication> findInboxAfter(@Param("companyId") UUID companyId,
+                                          @Param("appliedAt") LocalDateTime appliedAt,
+                                          @Param("id") UUID id,
+                                          @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE applications a SET company_id = j.created_by FROM jobs j " +
+            "WHERE j.id = a.job_id AND a.id IN (" +
+            "SELECT id FROM applications WHERE company_id IS NULL LIMIT :limit)",
+            nativeQuery = true)
+    int backfillCompanyIds(@Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Application a SET a.resumeStatus = :resumeStatus WHERE a.id = :id")
+    int updateResumeStatus(@Param("id") UUID id, @Param("resumeStatus") ResumeStatus resumeStatus);
+
+    /**
+     * Marks the resume uploaded and queues its text extraction in the same statement.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "WITH uploaded AS (" +
+            "UPDATE applications SET resume_status = 'UPLOADED' WHERE id = :id RETURNING id, job_id) " +
+            "INSERT INTO application_texts (application_id, job_id, status, attempts, updated_at) " +
+            "SELECT id, job_id, 'PENDING', 0, :now FROM uploaded " +
+            "ON CONFLICT (application_id) DO NOTHING",
+            nativeQuery = true)
+    int markResumeUploaded(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Application a SET a.resumeStatus = com.listo.eskalink.application.enums.ResumeStatus.FAILED " +
+            "WHERE a.resumeStatus = com.listo.eskalink.application.enums.ResumeStatus.PENDING AND a.appliedAt < :cutoff")
+    int failStalePendingResumes(@Param("cutoff") LocalDateTime cutoff);
 }
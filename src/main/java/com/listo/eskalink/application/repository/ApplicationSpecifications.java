@@ -0,0 +1,43 @@
+package com.listo.eskalink.application.repository;
+
+import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Predicates for company-side application queries. Callers combine only the filters that were supplied, so
+ * the generated SQL stays a plain conjunction the {@code (job_id, status, applied_at)} index can serve.
+ */
+public final class ApplicationSpecifications {
+
+    private ApplicationSpecifications() {
+    }
+
+    public static Specification<Application> forJob(UUID jobId) {
+        return (root, query, cb) -> cb.equal(root.get("job").get("id"), jobId);
+    }
+
+    public static Specification<Application> statusIn(Collection<ApplicationStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Application> appliedOnOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("appliedAt"), from);
+    }
+
+    public static Specification<Application> appliedBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("appliedAt"), to);
+    }
+
+    public static Specification<Application> applicantNameContains(String name) {
+        String pattern = "%" + name.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("applicant").get("name")), pattern, '\\');
+    }
+}
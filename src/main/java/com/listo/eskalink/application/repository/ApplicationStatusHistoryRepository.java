@@ -0,0 +1,39 @@
+package com.listo.eskalink.application.repository;
+
+import com.listo.eskalink.application.entity.ApplicationStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ApplicationStatusHistoryRepository extends JpaRepository<ApplicationStatusHistory, UUID> {
+
+    List<ApplicationStatusHistory> findByApplicationIdOrderByChangedAtAsc(UUID applicationId);
+
+    /**
+     * Re-derives the latest transition of every application changed since {@code since} from the columns
+     * written with the status itself; transitions that are already recorded are skipped. Earlier transitions
+     * are not stored on the row and cannot be recovered here.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO application_status_history " +
+            "(id, application_id, from_status, from_status_at, to_status, changed_at, changed_by) " +
+            "SELECT gen_random_uuid(), a.id, a.previous_status, a.previous_status_changed_at, a.status, " +
+            "a.status_changed_at, a.status_changed_by " +
+            "FROM applications a WHERE a.status_changed_at >= :since " +
+            "ON CONFLICT (application_id, changed_at) DO NOTHING",
+            nativeQuery = true)
+    int recoverMissing(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM ApplicationStatusHistory h WHERE h.applicationId IN :applicationIds")
+    int deleteByApplicationIdIn(@Param("applicationIds") List<UUID> applicationIds);
+}
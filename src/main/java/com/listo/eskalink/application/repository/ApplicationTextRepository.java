@@ -0,0 +1,94 @@
+package com.listo.eskalink.application.repository;
+
+import com.listo.eskalink.application.dto.ApplicantSearchResult;
+import com.listo.eskalink.application.dto.UnscoredApplication;
+import com.listo.eskalink.application.entity.ApplicationText;
+import com.listo.eskalink.application.enums.TextExtractionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ApplicationTextRepository extends JpaRepository<ApplicationText, UUID> {
+
+    /**
+     * Returns applications queued for extraction or due a retry, read from the partial
+     * {@code idx_application_texts_pending} index rather than from {@code applications}.
+     */
+    @Query(value = "SELECT t.application_id FROM application_texts t " +
+            "WHERE t.status IN ('PENDING', 'FAILED') " +
+            "AND (t.status = 'PENDING' OR t.attempts < :maxAttempts) " +
+            "ORDER BY t.updated_at LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findIndexCandidates(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO application_texts (application_id, job_id, status, resume_text, cover_letter, " +
+            "attempts, last_error, updated_at) " +
+            "VALUES (:applicationId, :jobId, 'EXTRACTED', CAST(:resumeText AS text), CAST(:coverLetter AS text), " +
+            "1, NULL, :now) " +
+            "ON CONFLICT (application_id) DO UPDATE SET status = 'EXTRACTED', resume_text = EXCLUDED.resume_text, " +
+            "cover_letter = EXCLUDED.cover_letter, attempts = application_texts.attempts + 1, last_error = NULL, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    @Transactional
+    int saveExtracted(@Param("applicationId") UUID applicationId,
+                      @Param("jobId") UUID jobId,
+                      @Param("resumeText") String resumeText,
+                      @Param("coverLetter") String coverLetter,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT INTO application_texts (application_id, job_id, status, resume_text, cover_letter, " +
+            "attempts, last_error, updated_at) " +
+            "VALUES (:applicationId, :jobId, 'FAILED', NULL, CAST(:coverLetter AS text), 1, :lastError, :now) " +
+            "ON CONFLICT (application_id) DO UPDATE SET status = 'FAILED', cover_letter = EXCLUDED.cover_letter, " +
+            "attempts = application_texts.attempts + 1, last_error = EXCLUDED.last_error, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    @Transactional
+    int recordFailure(@Param("applicationId") UUID applicationId,
+                      @Param("jobId") UUID jobId,
+                      @Param("coverLetter") String coverLetter,
+                      @Param("lastError") String lastError,
+                      @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT a.id AS \"id\", u.name AS \"applicantName\", a.resume_link AS \"resumeLink\", " +
+            "a.resume_status AS \"resumeStatus\", a.cover_letter AS \"coverLetter\", a.status AS \"status\", " +
+            "a.applied_at AS \"appliedAt\", ts_rank(t.search_vector, q.query) AS \"rank\" " +
+            "FROM application_texts t " +
+            "JOIN applications a ON a.id = t.application_id " +
+            "JOIN users u ON u.id = a.applicant_id " +
+            "CROSS JOIN websearch_to_tsquery('english', :query) AS q(query) " +
+            "WHERE t.job_id = :jobId AND t.search_vector @@ q.query " +
+            "ORDER BY \"rank\" DESC, a.applied_at DESC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ApplicantSearchResult> searchByJob(@Param("jobId") UUID jobId,
+                                            @Param("query") String query,
+                                            @Param("limit") int limit,
+                                            @Param("offset") int offset);
+
+    Page<ApplicationText> findByJobIdAndStatus(UUID jobId, TextExtractionStatus status, Pageable pageable);
+
+    @Query(value = "SELECT t.application_id AS \"applicationId\", t.job_id AS \"jobId\" " +
+            "FROM application_texts t JOIN applications a ON a.id = t.application_id " +
+            "WHERE t.status = 'EXTRACTED' AND a.scored_at IS NULL " +
+            "ORDER BY t.updated_at LIMIT :limit",
+            nativeQuery = true)
+    List<UnscoredApplication> findUnscoredApplications(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM ApplicationText t WHERE t.applicationId IN :applicationIds")
+    int deleteByApplicationIdIn(@Param("applicationIds") Collection<UUID> applicationIds);
+}
@@ -0,0 +1,57 @@
+package com.listo.eskalink.application.repository;
+
+import com.listo.eskalink.application.dto.FunnelStageCount;
+import com.listo.eskalink.application.entity.FunnelDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface FunnelDailyCountRepository extends JpaRepository<FunnelDailyCount, FunnelDailyCount.Key> {
+
+    @Query(value = "SELECT c.status AS \"status\", CAST(SUM(c.entered) AS BIGINT) AS \"entered\" " +
+            "FROM funnel_daily_counts c WHERE c.job_id = :jobId AND c.day >= :from AND c.day <= :to " +
+            "GROUP BY c.status",
+            nativeQuery = true)
+    List<FunnelStageCount> sumByJob(@Param("jobId") UUID jobId,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM funnel_daily_counts)", nativeQuery = true)
+    boolean existsAny();
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM funnel_daily_counts WHERE day >= :from AND day < :to", nativeQuery = true)
+    int deleteDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Recounts the given days from the source tables: new applications enter APPLIED on the day they were
+     * submitted, every recorded transition enters its target status on the day it happened.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO funnel_daily_counts (job_id, day, status, entered) " +
+            "SELECT e.job_id, e.day, e.status, COUNT(*) FROM (" +
+            "SELECT a.job_id, CAST(a.applied_at AS DATE) AS day, 'APPLIED' AS status " +
+            "FROM applications a WHERE a.applied_at >= :from AND a.applied_at < :to " +
+            "UNION ALL " +
+            "SELECT a.job_id, CAST(h.changed_at AS DATE), h.to_status " +
+            "FROM application_status_history h JOIN applications a ON a.id = h.application_id " +
+            "WHERE h.changed_at >= :from AND h.changed_at < :to) e " +
+            "GROUP BY e.job_id, e.day, e.status",
+            nativeQuery = true)
+    int rebuildDays(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM FunnelDailyCount c WHERE c.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") UUID jobId);
+}
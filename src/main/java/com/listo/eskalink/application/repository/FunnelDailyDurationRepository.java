@@ -0,0 +1,58 @@
+package com.listo.eskalink.application.repository;
+
+import com.listo.eskalink.application.dto.FunnelDurationBucket;
+import com.listo.eskalink.application.entity.FunnelDailyDuration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface FunnelDailyDurationRepository extends JpaRepository<FunnelDailyDuration, FunnelDailyDuration.Key> {
+
+    @Query(value = "SELECT d.from_status AS \"fromStatus\", d.to_status AS \"toStatus\", d.bucket AS \"bucket\", " +
+            "CAST(SUM(d.transitions) AS BIGINT) AS \"transitions\", " +
+            "CAST(SUM(d.total_seconds) AS BIGINT) AS \"totalSeconds\" " +
+            "FROM funnel_daily_durations d WHERE d.job_id = :jobId AND d.day >= :from AND d.day <= :to " +
+            "GROUP BY d.from_status, d.to_status, d.bucket",
+            nativeQuery = true)
+    List<FunnelDurationBucket> sumByJob(@Param("jobId") UUID jobId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM funnel_daily_durations WHERE day >= :from AND day < :to", nativeQuery = true)
+    int deleteDays(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Rebuilds the duration histograms of the given days from the recorded transitions. The bucket is
+     * {@code floor(log2(seconds))}, matching {@code HiringFunnelService#bucketOf}.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO funnel_daily_durations " +
+            "(job_id, day, from_status, to_status, bucket, transitions, total_seconds) " +
+            "SELECT t.job_id, t.day, t.from_status, t.to_status, " +
+            "CAST(FLOOR(LOG(2, GREATEST(t.seconds, 1))) AS INTEGER) AS bucket, " +
+            "COUNT(*), CAST(SUM(t.seconds) AS BIGINT) FROM (" +
+            "SELECT a.job_id, CAST(h.changed_at AS DATE) AS day, h.from_status, h.to_status, " +
+            "GREATEST(FLOOR(EXTRACT(EPOCH FROM (h.changed_at - h.from_status_at))), 0) AS seconds " +
+            "FROM application_status_history h JOIN applications a ON a.id = h.application_id " +
+            "WHERE h.changed_at >= :from AND h.changed_at < :to " +
+            "AND h.from_status IS NOT NULL AND h.from_status_at IS NOT NULL) t " +
+            "GROUP BY t.job_id, t.day, t.from_status, t.to_status, bucket",
+            nativeQuery = true)
+    int rebuildDays(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM FunnelDailyDuration d WHERE d.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") UUID jobId);
+}
@@ -0,0 +1,19 @@
+package com.listo.eskalink.application.repository;
+
+import com.listo.eskalink.application.entity.ResumeUpload;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ResumeUploadRepository extends JpaRepository<ResumeUpload, UUID> {
+
+    Optional<ResumeUpload> findByIdAndApplicantId(UUID id, UUID applicantId);
+
+    List<ResumeUpload> findByExpiresAtBefore(LocalDateTime now, Pageable pageable);
+}
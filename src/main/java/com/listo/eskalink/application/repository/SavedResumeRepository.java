@@ -0,0 +1,24 @@
+package com.listo.eskalink.application.repository;
+
+import com.listo.eskalink.application.entity.SavedResume;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SavedResumeRepository extends JpaRepository<SavedResume, UUID> {
+
+    List<SavedResume> findByApplicantIdOrderByCreatedAtDesc(UUID applicantId);
+
+    Optional<SavedResume> findByIdAndApplicantId(UUID id, UUID applicantId);
+
+    @Query("SELECT r.resumeLink FROM SavedResume r WHERE r.id = :id AND r.applicantId = :applicantId")
+    Optional<String> findResumeLink(@Param("id") UUID id, @Param("applicantId") UUID applicantId);
+
+    long countByApplicantId(UUID applicantId);
+}
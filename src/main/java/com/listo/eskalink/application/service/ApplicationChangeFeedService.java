@@ -0,0 +1,176 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.CompanyApplicationDto;
+import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.dto.CursorPageDto;
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.common.exception.UnauthorizedException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.DownloadUrlService;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change feed of a job's applications, ordered by {@code change_seq}.
+ * <p>
+ * A sequence value taken inside the writing transaction can become visible after a higher one, and a reader
+ * that already moved past it would never see that change. Writers therefore only clear {@code change_seq}
+ * (through a trigger) and a single sequencer, serialized by an advisory lock, numbers the cleared rows once
+ * they are committed. Readers only ever see sequence values in the order they were made visible.
+ */
+@Service
+@Slf4j
+public class ApplicationChangeFeedService {
+
+    private static final int MAX_LIMIT = 500;
+    private static final long SEQUENCER_LOCK = 0x6170706c6368L;
+
+    private static final String CREATE_SEQUENCE = "CREATE SEQUENCE IF NOT EXISTS application_change_seq";
+    private static final String CREATE_MARK_FUNCTION = "CREATE OR REPLACE FUNCTION mark_application_changed() " +
+            "RETURNS trigger AS $$ BEGIN " +
+            "IF NEW.change_seq IS NOT DISTINCT FROM OLD.change_seq THEN NEW.change_seq := NULL; END IF; " +
+            "RETURN NEW; END $$ LANGUAGE plpgsql";
+    private static final String MARK_TRIGGER_EXISTS = "SELECT EXISTS (SELECT 1 FROM pg_trigger " +
+            "WHERE tgname = 'trg_applications_changed' AND tgrelid = 'applications'::regclass)";
+    private static final String CREATE_MARK_TRIGGER = "CREATE OR REPLACE TRIGGER trg_applications_changed " +
+            "BEFORE UPDATE ON applications FOR EACH ROW EXECUTE FUNCTION mark_application_changed()";
+    private static final String CREATE_PENDING_INDEX = "CREATE INDEX CONCURRENTLY IF NOT EXISTS " +
+            "idx_applications_change_pending ON applications (id) WHERE change_seq IS NULL";
+    private static final String PENDING_INDEX_INVALID = "SELECT EXISTS (SELECT 1 FROM pg_index i " +
+            "JOIN pg_class c ON c.oid = i.indexrelid " +
+            "WHERE c.relname = 'idx_applications_change_pending' AND NOT i.indisvalid)";
+    private static final String SEQUENCE_PENDING = "UPDATE applications " +
+            "SET change_seq = nextval('application_change_seq') WHERE id IN (" +
+            "SELECT id FROM applications WHERE change_seq IS NULL LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationMapper applicationMapper;
+    private final DownloadUrlService downloadUrlService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.change-feed.batch-size}")
+    private int batchSize;
+
+    public ApplicationChangeFeedService(ApplicationRepository applicationRepository,
+                                        JobRepository jobRepository,
+                                        ApplicationMapper applicationMapper,
+                                        DownloadUrlService downloadUrlService,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager) {
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.applicationMapper = applicationMapper;
+        this.downloadUrlService = downloadUrlService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Installs change tracking without interrupting it for instances that are already writing: the trigger is
+     * never dropped, only created when missing, and the pending index is built without blocking writes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureChangeTracking() {
+        try {
+            jdbcTemplate.execute(CREATE_SEQUENCE);
+            jdbcTemplate.execute(CREATE_MARK_FUNCTION);
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(MARK_TRIGGER_EXISTS, Boolean.class))) {
+                jdbcTemplate.execute(CREATE_MARK_TRIGGER);
+            }
+            jdbcTemplate.execute(CREATE_PENDING_INDEX);
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(PENDING_INDEX_INVALID, Boolean.class))) {
+                log.error("Index idx_applications_change_pending is invalid, drop it to have it rebuilt");
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to set up application change tracking: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Numbers changed applications in batches until none are left. Rows locked by a running transaction are
+     * skipped and picked up by a later run, after that transaction has committed.
+     */
+    public int sequencePendingChanges() {
+        int total = 0;
+        int sequenced;
+        do {
+            Integer updated = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + SEQUENCER_LOCK + ")");
+                return jdbcTemplate.update(SEQUENCE_PENDING, batchSize);
+            });
+            sequenced = updated != null ? updated : 0;
+            total += sequenced;
+        } while (sequenced == batchSize);
+        return total;
+    }
+
+    /**
+     * Returns the applications of a job created or changed after the cursor. The returned cursor is always set
+     * so a client can store it and resume later; a page shorter than the limit means the client is up to date.
+     */
+    public CursorPageDto<CompanyApplicationDto> getJobChanges(UUID jobId, String cursor, int limit, UUID companyId) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Job job = jobRepository.findActiveById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+
+        if (!job.getCreatedBy().getId().equals(companyId)) {
+            throw new UnauthorizedException("Unauthorized access");
+        }
+
+        long after = cursor == null || cursor.isBlank() ? 0 : decodeCursor(cursor);
+        List<Application> changes = applicationRepository.findByJobIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(
+                jobId, after, PageRequest.of(0, limit));
+
+        List<CompanyApplicationDto> items = changes.stream()
+                .map(this::toCompanyApplicationDto)
+                .toList();
+        long last = changes.isEmpty() ? after : changes.get(changes.size() - 1).getChangeSeq();
+        return new CursorPageDto<>(items, encodeCursor(last));
+    }
+
+    private CompanyApplicationDto toCompanyApplicationDto(Application application) {
+        CompanyApplicationDto applicationDto = applicationMapper.applicationToCompanyApplicationDto(application);
+        applicationDto.setResumeLink(downloadUrlService.downloadUrl(applicationDto.getResumeLink()));
+        return applicationDto;
+    }
+
+    private String encodeCursor(long changeSeq) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(changeSeq).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeCursor(String cursor) {
+        long changeSeq;
+        try {
+            changeSeq = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+        if (changeSeq < 0) {
+            throw new ValidationException("Invalid cursor");
+        }
+        return changeSeq;
+    }
+}
@@ -0,0 +1,134 @@
+package com.listo.eskalink.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.listo.eskalink.application.dto.ApplicationExportRow;
+import com.listo.eskalink.application.dto.CompanyApplicationDto;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ExportFormat;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.common.exception.UnauthorizedException;
+import com.listo.eskalink.common.service.DownloadUrlService;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes a job's applications straight from a database cursor to the response, one row at a time, so memory
+ * use does not grow with the number of applicants.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "applicantName", "status", "resumeStatus", "relevanceScore", "appliedAt", "resumeLink", "coverLetter"
+    };
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationMapper applicationMapper;
+    private final ObjectMapper objectMapper;
+    private final DownloadUrlService downloadUrlService;
+
+    public void verifyJobOwner(UUID jobId, UUID companyId) {
+        Job job = jobRepository.findActiveById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+
+        if (!job.getCreatedBy().getId().equals(companyId)) {
+            throw new UnauthorizedException("Unauthorized access");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportJobApplications(UUID jobId, ApplicationStatus status, ExportFormat format,
+                                      OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        long rows = 0;
+
+        try (Stream<ApplicationExportRow> stream = applicationRepository.streamForExport(
+                jobId, status != null ? status.name() : null)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, CSV_HEADER);
+            }
+
+            Iterator<ApplicationExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                CompanyApplicationDto application = applicationMapper.applicationExportRowToCompanyApplicationDto(iterator.next());
+                application.setResumeLink(downloadUrlService.downloadUrl(application.getResumeLink()));
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, csvValues(application));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(application));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+            writer.flush();
+        }
+
+        log.info("Exported {} applications of job: {} as {} in {} ms",
+                rows, jobId, format, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    private String[] csvValues(CompanyApplicationDto application) {
+        return new String[]{
+                String.valueOf(application.getId()),
+                text(application.getApplicantName()),
+                application.getStatus() != null ? application.getStatus().name() : "",
+                application.getResumeStatus() != null ? application.getResumeStatus().name() : "",
+                application.getRelevanceScore() != null ? application.getRelevanceScore().toString() : "",
+                application.getAppliedAt() != null ? application.getAppliedAt().toString() : "",
+                text(application.getResumeLink()),
+                text(application.getCoverLetter())
+        };
+    }
+
+    /**
+     * Neutralizes applicant-supplied text that a spreadsheet would otherwise evaluate as a formula.
+     */
+    private String text(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
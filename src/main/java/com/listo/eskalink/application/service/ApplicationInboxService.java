@@ -0,0 +1,103 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.InboxApplication;
+import com.listo.eskalink.application.dto.InboxApplicationDto;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.dto.CursorPageDto;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.DownloadUrlService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Newest applications across all of a company's jobs, read from the {@code (company_id, applied_at, id)}
+ * index and paged with an opaque keyset cursor.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationInboxService {
+
+    private static final int BACKFILL_BATCH_SIZE = 10000;
+    private static final int MAX_LIMIT = 100;
+
+    private final ApplicationRepository applicationRepository;
+    private final DownloadUrlService downloadUrlService;
+
+    private record Cursor(LocalDateTime appliedAt, UUID id) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCompanyIds() {
+        int total = 0;
+        int updated;
+        do {
+            updated = applicationRepository.backfillCompanyIds(BACKFILL_BATCH_SIZE);
+            total += updated;
+        } while (updated == BACKFILL_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Backfilled company id of {} applications", total);
+        }
+    }
+
+    public CursorPageDto<InboxApplicationDto> getInbox(UUID companyId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<InboxApplication> applications;
+        if (cursor == null || cursor.isBlank()) {
+            applications = applicationRepository.findInbox(companyId, limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            applications = applicationRepository.findInboxAfter(companyId, position.appliedAt(), position.id(), limit);
+        }
+
+        List<InboxApplicationDto> items = applications.stream().map(this::toInboxApplicationDto).toList();
+        String nextCursor = items.size() == limit
+                ? encodeCursor(items.get(items.size() - 1))
+                : null;
+        return new CursorPageDto<>(items, nextCursor);
+    }
+
+    private InboxApplicationDto toInboxApplicationDto(InboxApplication application) {
+        InboxApplicationDto applicationDto = new InboxApplicationDto();
+        applicationDto.setId(application.getId());
+        applicationDto.setJobId(application.getJobId());
+        applicationDto.setJobTitle(application.getJobTitle());
+        applicationDto.setApplicantName(application.getApplicantName());
+        applicationDto.setStatus(application.getStatus());
+        applicationDto.setResumeStatus(application.getResumeStatus());
+        applicationDto.setResumeLink(downloadUrlService.downloadUrl(application.getResumeLink()));
+        applicationDto.setRelevanceScore(application.getRelevanceScore());
+        applicationDto.setAppliedAt(application.getAppliedAt());
+        return applicationDto;
+    }
+
+    private String encodeCursor(InboxApplicationDto last) {
+        String position = last.getAppliedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf('|');
+            return new Cursor(LocalDateTime.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
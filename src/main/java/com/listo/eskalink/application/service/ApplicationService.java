@@ -4,77 +4,117 @@ package com.listo.eskalink.application.service;
 import com.listo.eskalink.application.dto.*;
 import com.listo.eskalink.application.entity.Application;
 import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
+import com.listo.eskalink.application.event.ApplicationStatusChangedEvent;
 import com.listo.eskalink.application.mapper.ApplicationMapper;
 import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.repository.ApplicationSpecifications;
+import com.listo.eskalink.application.repository.ApplicationTextRepository;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService.Transition;
 import com.listo.eskalink.common.exception.ResourceNotFoundException;
 import com.listo.eskalink.common.exception.UnauthorizedException;
 import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.DownloadUrlService;
 import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.FileUploadService.StagedFile;
+import com.listo.eskalink.common.storage.PresignedUpload;
 import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.enums.JobStatus;
 import com.listo.eskalink.job.repository.JobRepository;
 import com.listo.eskalink.user.entity.User;
 import com.listo.eskalink.user.repository.UserRepository;
 import com.listo.eskalink.user.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ApplicationService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final ApplicationMapper applicationMapper;
     private final FileUploadService fileUploadService;
     private final EmailService emailService;
+    private final ResumeUploadWorker resumeUploadWorker;
+    private final ResumeUploadService resumeUploadService;
+    private final ResumeLibraryService resumeLibraryService;
+    private final ApplicationTextRepository applicationTextRepository;
+    private final DownloadUrlService downloadUrlService;
+    private final ApplicationStatusHistoryService statusHistoryService;
+    private final HiringFunnelService hiringFunnelService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
     public ApplicationDto applyForJob(CreateApplicationRequest request, UUID applicantId) throws IOException {
         log.info("Processing job application for job: {} by applicant: {}", request.getJobId(), applicantId);
 
-        User applicant = userRepository.findById(applicantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Applicant not found"));
-
-        Job job = jobRepository.findById(request.getJobId())
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
-
-        if (applicationRepository.existsByApplicantAndJob(applicant, job)) {
-            throw new ValidationException("You have already applied for this job");
+        boolean hasFile = request.getResume() != null && !request.getResume().isEmpty();
+        boolean hasKey = request.getResumeKey() != null && !request.getResumeKey().isBlank();
+        boolean hasUpload = request.getResumeUploadId() != null;
+        boolean hasSavedResume = request.getResumeId() != null;
+        if (Stream.of(hasFile, hasKey, hasUpload, hasSavedResume).filter(Boolean::booleanValue).count() != 1) {
+            throw new ValidationException("Provide exactly one of a resume file, a resume key, a resume upload or a saved resume");
         }
 
-        String resumeUrl = fileUploadService.uploadResume(request.getResume());
+        if (!hasFile) {
+            String resumeUrl = resolveStoredResume(request, applicantId);
+            ApplicationInsertResult result = insertApplication(request, applicantId, resumeUrl, ResumeStatus.UPLOADED,
+                    () -> fileUploadService.deleteFile(resumeUrl));
+            return completeApplication(result, request, applicantId, resumeUrl, ResumeStatus.UPLOADED);
+        }
 
-        Application application = Application.builder()
-                .applicant(applicant)
-                .job(job)
-                .resumeLink(resumeUrl)
-                .coverLetter(request.getCoverLetter())
-                .status(ApplicationStatus.APPLIED)
-                .build();
+        StagedFile stagedResume = fileUploadService.stageResume(request.getResume());
+        ApplicationInsertResult result = insertApplication(request, applicantId, stagedResume.url(), ResumeStatus.PENDING,
+                () -> {
+                    fileUploadService.discardStagedFile(stagedResume);
+                    fileUploadService.deleteFile(stagedResume.url());
+                });
+
+        ResumeStatus resumeStatus = ResumeStatus.PENDING;
+        try {
+            resumeUploadWorker.upload(result.getId(), stagedResume);
+        } catch (TaskRejectedException e) {
+            log.warn("Resume upload queue is full, uploading resume of application: {} in request", result.getId());
+            resumeStatus = resumeUploadWorker.uploadNow(result.getId(), stagedResume);
+        }
+        return completeApplication(result, request, applicantId, stagedResume.url(), resumeStatus);
+    }
 
-        application = applicationRepository.save(application);
+    public ResumeUploadUrlDto createResumeUploadUrl(CreateResumeUploadRequest request, UUID applicantId) {
+        log.info("Creating presigned resume upload for applicant: {}", applicantId);
 
-        emailService.sendJobApplicationNotification(
-                job.getCreatedBy().getEmail(),
-                job.getCreatedBy().getName(),
-                job.getTitle(),
-                applicant.getName()
-        );
+        PresignedUpload presignedUpload = fileUploadService.presignResumeUpload(
+                request.getContentType(), request.getSize(), applicantId);
 
-        log.info("Job application created successfully with ID: {}", application.getId());
-        return applicationMapper.applicationToApplicationDto(application);
+        ResumeUploadUrlDto uploadUrlDto = new ResumeUploadUrlDto();
+        uploadUrlDto.setResumeKey(presignedUpload.key());
+        uploadUrlDto.setUploadUrl(presignedUpload.uploadUrl());
+        uploadUrlDto.setMethod("PUT");
+        uploadUrlDto.setRequiredHeaders(presignedUpload.requiredHeaders());
+        uploadUrlDto.setExpiresAt(presignedUpload.expiresAt());
+        return uploadUrlDto;
     }
 
     public List<ApplicantApplicationDto> getApplicantApplications(ApplicationSearchRequest request, UUID applicantId) {
@@ -98,31 +138,63 @@ public class ApplicationService {
                 .toList();
     }
 
-    public List<CompanyApplicationDto> getJobApplications(UUID jobId, ApplicationStatus status,
-                                                          int pageNumber, int pageSize, UUID companyId) {
+    public Page<CompanyApplicationDto> getJobApplications(UUID jobId, JobApplicationSearchRequest request, UUID companyId) {
         log.info("Getting applications for job: {} by company: {}", jobId, companyId);
 
-        User company = userRepository.findById(companyId)
-                .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
-
-        Job job = jobRepository.findById(jobId)
+        Job job = jobRepository.findActiveById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         if (!job.getCreatedBy().getId().equals(companyId)) {
             throw new UnauthorizedException("Unauthorized access");
         }
 
-        Pageable pageable = PageRequest.of(pageNumber - 1, pageSize, Sort.by("appliedAt").descending());
+        if (request.getAppliedFrom() != null && request.getAppliedTo() != null
+                && request.getAppliedFrom().isAfter(request.getAppliedTo())) {
+            throw new ValidationException("appliedFrom must not be after appliedTo");
+        }
 
-        Page<Application> applications;
-        if (status != null) {
-            applications = applicationRepository.findByJobAndJobCreatedByAndStatus(job, company, status, pageable);
-        } else {
-            applications = applicationRepository.findByJobAndJobCreatedBy(job, company, pageable);
+        Specification<Application> specification = ApplicationSpecifications.forJob(jobId);
+        if (request.getApplicationStatuses() != null && !request.getApplicationStatuses().isEmpty()) {
+            specification = specification.and(ApplicationSpecifications.statusIn(request.getApplicationStatuses()));
+        }
+        if (request.getApplicantName() != null && !request.getApplicantName().isBlank()) {
+            specification = specification.and(ApplicationSpecifications.applicantNameContains(request.getApplicantName().trim()));
+        }
+        if (request.getAppliedFrom() != null) {
+            specification = specification.and(ApplicationSpecifications.appliedOnOrAfter(request.getAppliedFrom().atStartOfDay()));
+        }
+        if (request.getAppliedTo() != null) {
+            specification = specification.and(ApplicationSpecifications.appliedBefore(request.getAppliedTo().plusDays(1).atStartOfDay()));
         }
 
-        return applications.getContent().stream()
-                .map(applicationMapper::applicationToCompanyApplicationDto)
+        return applicationRepository.findAll(specification, createJobApplicationsPageable(request))
+                .map(this::toCompanyApplicationDto);
+    }
+
+    public List<ApplicantSearchResultDto> searchJobApplicants(UUID jobId, String query, int pageNumber, int pageSize,
+                                                             UUID companyId) {
+        log.info("Searching applicants of job: {} by company: {}", jobId, companyId);
+
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query is required");
+        }
+        if (pageNumber < 1) {
+            throw new ValidationException("Page number must be at least 1");
+        }
+        if (pageSize < 1 || pageSize > MAX_SEARCH_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
+        Job job = jobRepository.findActiveById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+
+        if (!job.getCreatedBy().getId().equals(companyId)) {
+            throw new UnauthorizedException("Unauthorized access");
+        }
+
+        return applicationTextRepository.searchByJob(jobId, query.trim(), pageSize, (pageNumber - 1) * pageSize)
+                .stream()
+                .map(this::toApplicantSearchResultDto)
                 .toList();
     }
 
@@ -137,6 +209,21 @@ public class ApplicationService {
                 .orElseThrow(() -> new UnauthorizedException("Unauthorized"));
 
         ApplicationStatus oldStatus = application.getStatus();
+        if (oldStatus != request.getStatus()) {
+            LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            LocalDateTime oldStatusAt = application.getStatusChangedAt() != null
+                    ? application.getStatusChangedAt()
+                    : application.getAppliedAt();
+            application.setPreviousStatus(oldStatus);
+            application.setPreviousStatusChangedAt(oldStatusAt);
+            application.setStatusChangedAt(changedAt);
+            application.setStatusChangedBy(companyId);
+            statusHistoryService.record(List.of(new Transition(applicationId, application.getJob().getId(),
+                    oldStatus, oldStatusAt, request.getStatus(), changedAt, companyId)));
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(applicationId,
+                    application.getApplicant().getId(), application.getJob().getId(), application.getJob().getTitle(),
+                    request.getStatus(), changedAt));
+        }
         application.setStatus(request.getStatus());
         application = applicationRepository.save(application);
 
@@ -156,12 +243,154 @@ public class ApplicationService {
         return applicationMapper.applicationToApplicationDto(application);
     }
 
+    public BulkStatusUpdateDto bulkUpdateApplicationStatus(BulkUpdateApplicationStatusRequest request, UUID companyId) {
+        Set<UUID> applicationIds = new LinkedHashSet<>(request.getApplicationIds());
+        log.info("Bulk updating status of {} applications to: {} by company: {}",
+                applicationIds.size(), request.getStatus(), companyId);
+
+        if (applicationRepository.countByIdInAndJobCreatedById(applicationIds, companyId) != applicationIds.size()) {
+            throw new UnauthorizedException("Unauthorized");
+        }
+
+        List<ApplicationStatusChange> changes = applicationRepository.updateStatusForCompany(
+                applicationIds, companyId, request.getStatus().name());
+        statusHistoryService.record(changes.stream()
+                .map(change -> new Transition(change.getApplicationId(), change.getJobId(),
+                        change.getPreviousStatus(), change.getPreviousStatusChangedAt(),
+                        request.getStatus(), change.getChangedAt(), companyId))
+                .toList());
+        changes.forEach(change -> eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                change.getApplicationId(), change.getApplicantId(), change.getJobId(), change.getJobTitle(),
+                request.getStatus(), change.getChangedAt())));
+
+        if (!changes.isEmpty() && shouldSendStatusUpdateEmail(request.getStatus())) {
+            emailService.sendApplicationStatusUpdates(changes, request.getStatus());
+        }
+
+        log.info("Bulk status update to {} changed {} of {} applications",
+                request.getStatus(), changes.size(), applicationIds.size());
+
+        return BulkStatusUpdateDto.builder()
+                .status(request.getStatus())
+                .requested(applicationIds.size())
+                .updated(changes.size())
+                .updatedApplicationIds(changes.stream().map(ApplicationStatusChange::getApplicationId).toList())
+                .build();
+    }
+
+    private String resolveStoredResume(CreateApplicationRequest request, UUID applicantId) {
+        if (request.getResumeUploadId() != null) {
+            return resumeUploadService.resolveCompletedUpload(request.getResumeUploadId(), applicantId);
+        }
+        if (request.getResumeId() != null) {
+            return resumeLibraryService.resolveResumeLink(request.getResumeId(), applicantId);
+        }
+        return fileUploadService.verifyUploadedResume(request.getResumeKey(), applicantId);
+    }
+
+    private ApplicationInsertResult insertApplication(CreateApplicationRequest request, UUID applicantId,
+                                                      String resumeUrl, ResumeStatus resumeStatus,
+                                                      Runnable discardResume) {
+        fileUploadService.retainFile(resumeUrl);
+        try {
+            return applicationRepository.insertIfJobOpen(
+                    UUID.randomUUID(),
+                    applicantId,
+                    request.getJobId(),
+                    resumeUrl,
+                    resumeStatus.name(),
+                    request.getCoverLetter()
+            ).orElseThrow(() -> explainRejectedApplication(request.getJobId()));
+        } catch (RuntimeException e) {
+            discardResume.run();
+            throw e;
+        }
+    }
+
+    private ApplicationDto completeApplication(ApplicationInsertResult result, CreateApplicationRequest request,
+                                               UUID applicantId, String resumeUrl, ResumeStatus resumeStatus) {
+        hiringFunnelService.recordApplication(request.getJobId(), result.getAppliedAt());
+        emailService.sendJobApplicationNotification(
+                result.getCompanyEmail(),
+                result.getCompanyName(),
+                result.getJobTitle(),
+                result.getApplicantName()
+        );
+
+        log.info("Job application created successfully with ID: {}", result.getId());
+        return toApplicationDto(result, request, applicantId, resumeUrl, resumeStatus);
+    }
+
+    private RuntimeException explainRejectedApplication(UUID jobId) {
+        Job job = jobRepository.findActiveById(jobId).orElse(null);
+
+        if (job == null) {
+            return new ResourceNotFoundException("Job not found");
+        }
+        if (job.getStatus() != JobStatus.OPEN) {
+            return new ValidationException("This job is not accepting applications");
+        }
+        return new ValidationException("You have already applied for this job");
+    }
+
+    private ApplicationDto toApplicationDto(ApplicationInsertResult result, CreateApplicationRequest request,
+                                            UUID applicantId, String resumeUrl, ResumeStatus resumeStatus) {
+        ApplicationDto applicationDto = new ApplicationDto();
+        applicationDto.setId(result.getId());
+        applicationDto.setApplicantId(applicantId);
+        applicationDto.setApplicantName(result.getApplicantName());
+        applicationDto.setJobId(request.getJobId());
+        applicationDto.setJobTitle(result.getJobTitle());
+        applicationDto.setCompanyName(result.getCompanyName());
+        applicationDto.setResumeLink(resumeUrl);
+        applicationDto.setResumeStatus(resumeStatus);
+        applicationDto.setCoverLetter(request.getCoverLetter());
+        applicationDto.setStatus(ApplicationStatus.APPLIED);
+        applicationDto.setAppliedAt(result.getAppliedAt());
+        return applicationDto;
+    }
+
+    private CompanyApplicationDto toCompanyApplicationDto(Application application) {
+        CompanyApplicationDto applicationDto = applicationMapper.applicationToCompanyApplicationDto(application);
+        applicationDto.setResumeLink(downloadUrlService.downloadUrl(applicationDto.getResumeLink()));
+        return applicationDto;
+    }
+
+    private ApplicantSearchResultDto toApplicantSearchResultDto(ApplicantSearchResult result) {
+        ApplicantSearchResultDto resultDto = new ApplicantSearchResultDto();
+        resultDto.setId(result.getId());
+        resultDto.setApplicantName(result.getApplicantName());
+        resultDto.setResumeLink(downloadUrlService.downloadUrl(result.getResumeLink()));
+        resultDto.setResumeStatus(result.getResumeStatus());
+        resultDto.setCoverLetter(result.getCoverLetter());
+        resultDto.setStatus(result.getStatus());
+        resultDto.setAppliedAt(result.getAppliedAt());
+        resultDto.setRank(result.getRank());
+        return resultDto;
+    }
+
     private boolean shouldSendStatusUpdateEmail(ApplicationStatus status) {
         return status == ApplicationStatus.INTERVIEW ||
                 status == ApplicationStatus.REJECTED ||
                 status == ApplicationStatus.HIRED;
     }
 
+    private Pageable createJobApplicationsPageable(JobApplicationSearchRequest request) {
+        Sort.Direction direction = "asc".equalsIgnoreCase(request.getSortDirection())
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        String sortBy = request.getSortBy() != null ? request.getSortBy().trim() : "appliedAt";
+
+        Sort sort = switch (sortBy) {
+            case "appliedAt" -> Sort.by(direction, "appliedAt");
+            case "applicantName" -> Sort.by(direction, "applicant.name");
+            case "relevance" -> Sort.by(direction, "relevanceScore").and(Sort.by(Sort.Direction.DESC, "appliedAt"));
+            default -> throw new ValidationException("Invalid sort field: " + sortBy);
+        };
+
+        return PageRequest.of(request.getPageNumber() - 1, request.getPageSize(), sort.and(Sort.by("id")));
+    }
+
     private Pageable createPageable(ApplicationSearchRequest request) {
         Sort sort = Sort.by("appliedAt").descending();
 
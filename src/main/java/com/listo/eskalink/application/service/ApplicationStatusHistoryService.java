@@ -0,0 +1,190 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.ApplicationTimelineDto;
+import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.repository.ApplicationStatusHistoryRepository;
+import com.listo.eskalink.common.concurrent.RingBuffer;
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.common.exception.UnauthorizedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Appends status transitions to {@code application_status_history} off the request path. Transitions are
+ * buffered once their transaction commits and written in JDBC batches by the scheduler.
+ * <p>
+ * Every status write also stores its latest transition on the application row itself. When the buffer loses
+ * entries (a full buffer, a failed batch, a crash before the flush), {@link #recover()} restores only that latest
+ * transition of each affected application: an application that moved more than once before the loss keeps a
+ * gap in its history for the intermediate moves. Writes are idempotent on {@code (application_id, changed_at)}.
+ */
+@Service
+@Slf4j
+public class ApplicationStatusHistoryService {
+
+    private static final String INSERT_HISTORY = "INSERT INTO application_status_history " +
+            "(id, application_id, from_status, from_status_at, to_status, changed_at, changed_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (application_id, changed_at) DO NOTHING";
+
+    private final ApplicationStatusHistoryRepository statusHistoryRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationMapper applicationMapper;
+    private final HiringFunnelService hiringFunnelService;
+    private final JdbcTemplate jdbcTemplate;
+    private final RingBuffer<Transition> buffer;
+    private final int batchSize;
+    private final AtomicBoolean recoveryNeeded = new AtomicBoolean();
+
+    @Value("${app.status-history.recovery-window-hours}")
+    private long recoveryWindowHours;
+
+    public record Transition(UUID applicationId, UUID jobId, ApplicationStatus fromStatus, LocalDateTime fromStatusAt,
+                             ApplicationStatus toStatus, LocalDateTime changedAt, UUID changedBy) {
+    }
+
+    public ApplicationStatusHistoryService(ApplicationStatusHistoryRepository statusHistoryRepository,
+                                           ApplicationRepository applicationRepository,
+                                           ApplicationMapper applicationMapper,
+                                           HiringFunnelService hiringFunnelService,
+                                           JdbcTemplate jdbcTemplate,
+                                           @Value("${app.status-history.buffer-capacity}") int bufferCapacity,
+                                           @Value("${app.status-history.batch-size}") int batchSize) {
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.applicationRepository = applicationRepository;
+        this.applicationMapper = applicationMapper;
+        this.hiringFunnelService = hiringFunnelService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Queues transitions for the next flush and counts them into the hiring funnel; inside a transaction both
+     * only happen once it commits.
+     */
+    public void record(List<Transition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(transitions);
+                }
+            });
+        } else {
+            enqueue(transitions);
+        }
+    }
+
+    public synchronized int flush() {
+        int total = 0;
+        List<Transition> batch = new ArrayList<>(batchSize);
+
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_HISTORY, batch.stream()
+                        .map(transition -> new Object[]{
+                                UUID.randomUUID(),
+                                transition.applicationId(),
+                                transition.fromStatus() != null ? transition.fromStatus().name() : null,
+                                transition.fromStatusAt() != null ? Timestamp.valueOf(transition.fromStatusAt()) : null,
+                                transition.toStatus().name(),
+                                Timestamp.valueOf(transition.changedAt()),
+                                transition.changedBy()
+                        })
+                        .toList());
+                total += batch.size();
+            } catch (Exception e) {
+                log.error("Failed to append {} status history entries - Error: {}", batch.size(), e.getMessage());
+                recoveryNeeded.set(true);
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        long dropped = buffer.getAndResetDropped();
+        if (dropped > 0) {
+            log.warn("Status history buffer full, dropped {} entries", dropped);
+            recoveryNeeded.set(true);
+        }
+
+        if (recoveryNeeded.getAndSet(false)) {
+            recover();
+        }
+        return total;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recover();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int recover() {
+        try {
+            int recovered = statusHistoryRepository.recoverMissing(LocalDateTime.now().minusHours(recoveryWindowHours));
+            if (recovered > 0) {
+                log.info("Recovered {} missing status history entries", recovered);
+            }
+            return recovered;
+        } catch (Exception e) {
+            log.error("Failed to recover status history - Error: {}", e.getMessage());
+            recoveryNeeded.set(true);
+            return 0;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationTimelineDto getTimeline(UUID applicationId, UUID userId) {
+        Application application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+
+        if (!application.getApplicant().getId().equals(userId)
+                && !application.getJob().getCreatedBy().getId().equals(userId)) {
+            throw new UnauthorizedException("Unauthorized access");
+        }
+
+        ApplicationTimelineDto timeline = new ApplicationTimelineDto();
+        timeline.setApplicationId(application.getId());
+        timeline.setCurrentStatus(application.getStatus());
+        timeline.setAppliedAt(application.getAppliedAt());
+        timeline.setEntries(statusHistoryRepository.findByApplicationIdOrderByChangedAtAsc(applicationId).stream()
+                .map(applicationMapper::statusHistoryToStatusHistoryEntryDto)
+                .toList());
+        return timeline;
+    }
+
+    private void enqueue(List<Transition> transitions) {
+        for (Transition transition : transitions) {
+            buffer.offer(transition);
+        }
+        hiringFunnelService.recordTransitions(transitions);
+    }
+}
@@ -0,0 +1,121 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.ApplicationStatusEventDto;
+import com.listo.eskalink.application.event.ApplicationStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes status changes of an applicant's applications to their open server-sent event streams.
+ * <p>
+ * Streams are async servlet responses, so an idle stream holds a connection but no thread. Committed status
+ * changes are fanned out in-process and written on virtual threads, so a slow client only parks its own
+ * writer. Events are not replayed: a client that reconnects should reload its applications once.
+ */
+@Service
+@Slf4j
+public class ApplicationStatusStreamService {
+
+    private final Map<UUID, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private final Executor statusStreamExecutor;
+
+    @Value("${app.status-stream.timeout-ms}")
+    private long timeoutMs;
+
+    @Value("${app.status-stream.max-streams-per-applicant}")
+    private int maxStreamsPerApplicant;
+
+    public ApplicationStatusStreamService(@Qualifier("statusStreamExecutor") Executor statusStreamExecutor) {
+        this.statusStreamExecutor = statusStreamExecutor;
+    }
+
+    /**
+     * Opens a stream for the applicant. Beyond the per-applicant limit the oldest stream is closed, which is
+     * usually a tab or connection the client has already abandoned.
+     */
+    public SseEmitter subscribe(UUID applicantId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> remove(applicantId, emitter));
+        emitter.onTimeout(() -> remove(applicantId, emitter));
+        emitter.onError(e -> remove(applicantId, emitter));
+
+        List<SseEmitter> evicted = new ArrayList<>();
+        subscribers.compute(applicantId, (id, emitters) -> {
+            List<SseEmitter> current = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            while (current.size() >= maxStreamsPerApplicant) {
+                evicted.add(current.remove(0));
+            }
+            current.add(emitter);
+            return current;
+        });
+        openStreams.addAndGet(1 - evicted.size());
+        evicted.forEach(SseEmitter::complete);
+
+        send(applicantId, emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        List<SseEmitter> emitters = subscribers.get(event.applicantId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+
+        ApplicationStatusEventDto statusEvent = new ApplicationStatusEventDto();
+        statusEvent.setApplicationId(event.applicationId());
+        statusEvent.setJobId(event.jobId());
+        statusEvent.setJobTitle(event.jobTitle());
+        statusEvent.setStatus(event.status());
+        statusEvent.setChangedAt(event.changedAt());
+
+        for (SseEmitter emitter : emitters) {
+            statusStreamExecutor.execute(() -> send(event.applicantId(), emitter, SseEmitter.event()
+                    .name("status")
+                    .data(statusEvent, MediaType.APPLICATION_JSON)));
+        }
+    }
+
+    /**
+     * Keeps idle streams open through proxies and detects clients that went away without closing.
+     */
+    public int sendHeartbeats() {
+        subscribers.forEach((applicantId, emitters) -> emitters.forEach(emitter -> statusStreamExecutor.execute(
+                () -> send(applicantId, emitter, SseEmitter.event().comment("heartbeat")))));
+        return openStreams.get();
+    }
+
+    private void send(UUID applicantId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping status stream of applicant: {} - Error: {}", applicantId, e.getMessage());
+            remove(applicantId, emitter);
+        }
+    }
+
+    private void remove(UUID applicantId, SseEmitter emitter) {
+        subscribers.computeIfPresent(applicantId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                openStreams.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
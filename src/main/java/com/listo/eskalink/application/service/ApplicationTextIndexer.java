@@ -0,0 +1,165 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.repository.ApplicationTextRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Extracts resume and cover letter text of uploaded applications on a bounded pool and stores it in
+ * {@code application_texts}, whose generated {@code search_vector} backs company-side applicant search.
+ * An application is queued by the statement that records its resume as uploaded, which writes a
+ * {@code PENDING} row; the poller only reads pending and failed rows through a partial index.
+ */
+@Service
+@Slf4j
+public class ApplicationTextIndexer {
+
+    private static final String ADD_SEARCH_VECTOR = "ALTER TABLE application_texts ADD COLUMN IF NOT EXISTS " +
+            "search_vector tsvector GENERATED ALWAYS AS (to_tsvector('english', " +
+            "coalesce(resume_text, '') || ' ' || coalesce(cover_letter, ''))) STORED";
+    private static final String CREATE_SEARCH_INDEX = "CREATE INDEX CONCURRENTLY IF NOT EXISTS " +
+            "idx_application_texts_search ON application_texts USING GIN (search_vector)";
+    private static final String SEARCH_INDEX_INVALID = "SELECT EXISTS (SELECT 1 FROM pg_index i " +
+            "JOIN pg_class c ON c.oid = i.indexrelid " +
+            "WHERE c.relname = 'idx_application_texts_search' AND NOT i.indisvalid)";
+    // Tables created before PENDING existed carry a generated check constraint that rejects it.
+    private static final String DROP_STATUS_CHECK = "ALTER TABLE application_texts " +
+            "DROP CONSTRAINT IF EXISTS application_texts_status_check";
+    private static final String CREATE_PENDING_INDEX = "CREATE INDEX CONCURRENTLY IF NOT EXISTS " +
+            "idx_application_texts_pending ON application_texts (updated_at) WHERE status IN ('PENDING', 'FAILED')";
+    private static final String PENDING_INDEX_INVALID = "SELECT EXISTS (SELECT 1 FROM pg_index i " +
+            "JOIN pg_class c ON c.oid = i.indexrelid " +
+            "WHERE c.relname = 'idx_application_texts_pending' AND NOT i.indisvalid)";
+    // Queues uploaded applications that predate the pending rows; after the first run it finds nothing.
+    private static final String QUEUE_UNINDEXED = "INSERT INTO application_texts " +
+            "(application_id, job_id, status, attempts, updated_at) " +
+            "SELECT a.id, a.job_id, 'PENDING', 0, LOCALTIMESTAMP FROM applications a " +
+            "WHERE a.resume_status = 'UPLOADED' " +
+            "AND NOT EXISTS (SELECT 1 FROM application_texts t WHERE t.application_id = a.id) " +
+            "ON CONFLICT (application_id) DO NOTHING";
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationTextRepository applicationTextRepository;
+    private final FileUploadService fileUploadService;
+    private final ResumeTextExtractor resumeTextExtractor;
+    private final RelevanceScoringService relevanceScoringService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor textExtractionExecutor;
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.text-extraction.batch-size}")
+    private int batchSize;
+
+    @Value("${app.text-extraction.max-attempts}")
+    private int maxAttempts;
+
+    public ApplicationTextIndexer(ApplicationRepository applicationRepository,
+                                  ApplicationTextRepository applicationTextRepository,
+                                  FileUploadService fileUploadService,
+                                  ResumeTextExtractor resumeTextExtractor,
+                                  RelevanceScoringService relevanceScoringService,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Qualifier("textExtractionExecutor") Executor textExtractionExecutor) {
+        this.applicationRepository = applicationRepository;
+        this.applicationTextRepository = applicationTextRepository;
+        this.fileUploadService = fileUploadService;
+        this.resumeTextExtractor = resumeTextExtractor;
+        this.relevanceScoringService = relevanceScoringService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.textExtractionExecutor = textExtractionExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureSearchIndex() {
+        try {
+            jdbcTemplate.execute(ADD_SEARCH_VECTOR);
+            jdbcTemplate.execute(CREATE_SEARCH_INDEX);
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(SEARCH_INDEX_INVALID, Boolean.class))) {
+                log.error("Index idx_application_texts_search is invalid, drop it to have it rebuilt");
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to create applicant search index: {}", e.getMessage());
+        }
+
+        try {
+            jdbcTemplate.execute(DROP_STATUS_CHECK);
+            jdbcTemplate.execute(CREATE_PENDING_INDEX);
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(PENDING_INDEX_INVALID, Boolean.class))) {
+                log.error("Index idx_application_texts_pending is invalid, drop it to have it rebuilt");
+            }
+            int queued = jdbcTemplate.update(QUEUE_UNINDEXED);
+            if (queued > 0) {
+                log.info("Queued {} uploaded applications for text extraction", queued);
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to prepare text extraction queue: {}", e.getMessage());
+        }
+    }
+
+    public int indexPendingApplications() {
+        List<UUID> candidates = applicationTextRepository.findIndexCandidates(maxAttempts, batchSize);
+
+        int submitted = 0;
+        for (UUID applicationId : candidates) {
+            if (!inFlight.add(applicationId)) {
+                continue;
+            }
+            try {
+                textExtractionExecutor.execute(() -> index(applicationId));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(applicationId);
+                log.debug("Text extraction queue is full, deferring remaining applications");
+                break;
+            }
+        }
+        return submitted;
+    }
+
+    private void index(UUID applicationId) {
+        try {
+            Application application = applicationRepository.findById(applicationId).orElse(null);
+            if (application == null) {
+                applicationTextRepository.deleteById(applicationId);
+                return;
+            }
+
+            UUID jobId = application.getJob().getId();
+            String coverLetter = resumeTextExtractor.normalize(application.getCoverLetter());
+            try (InputStream resume = fileUploadService.openFile(application.getResumeLink())) {
+                String resumeText = resumeTextExtractor.extract(resume, application.getResumeLink());
+                applicationTextRepository.saveExtracted(applicationId, jobId, resumeText, coverLetter, LocalDateTime.now());
+                relevanceScoringService.scoreApplication(applicationId, jobId, resumeText, coverLetter);
+                log.debug("Indexed {} characters of resume text for application: {}", resumeText.length(), applicationId);
+            } catch (Exception e) {
+                log.warn("Failed to extract resume text for application: {} - Error: {}", applicationId, e.getMessage());
+                String error = e.getMessage() != null && e.getMessage().length() > 500
+                        ? e.getMessage().substring(0, 500)
+                        : e.getMessage();
+                applicationTextRepository.recordFailure(applicationId, jobId, coverLetter, error, LocalDateTime.now());
+            }
+        } catch (Exception e) {
+            log.error("Failed to index application: {} - Error: {}", applicationId, e.getMessage());
+        } finally {
+            inFlight.remove(applicationId);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.FunnelDurationBucket;
+import com.listo.eskalink.application.dto.FunnelStageCount;
+import com.listo.eskalink.application.dto.FunnelStageDto;
+import com.listo.eskalink.application.dto.HiringFunnelDto;
+import com.listo.eskalink.application.dto.StageDurationDto;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.repository.FunnelDailyCountRepository;
+import com.listo.eskalink.application.repository.FunnelDailyDurationRepository;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService.Transition;
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.common.exception.UnauthorizedException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains the hiring-funnel rollups: per job and day, how many applications entered each status and how long
+ * they spent in the previous one. Live applications and transitions are summed in memory and upserted by the
+ * scheduler, so a busy job costs one row update per flush instead of one per request.
+ * <p>
+ * Days before yesterday are owned by {@link #compact()}, which recounts them from {@code applications} and the
+ * status history. That repairs anything the in-memory deltas lost, and late deltas for those days are discarded.
+ */
+@Service
+@Slf4j
+public class HiringFunnelService {
+
+    private static final String UPSERT_COUNT = "INSERT INTO funnel_daily_counts (job_id, day, status, entered) " +
+            "VALUES (?, ?, ?, ?) ON CONFLICT (job_id, day, status) " +
+            "DO UPDATE SET entered = funnel_daily_counts.entered + EXCLUDED.entered";
+    private static final String UPSERT_DURATION = "INSERT INTO funnel_daily_durations " +
+            "(job_id, day, from_status, to_status, bucket, transitions, total_seconds) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (job_id, day, from_status, to_status, bucket) " +
+            "DO UPDATE SET transitions = funnel_daily_durations.transitions + EXCLUDED.transitions, " +
+            "total_seconds = funnel_daily_durations.total_seconds + EXCLUDED.total_seconds";
+    private static final LocalDate FIRST_DAY = LocalDate.of(1970, 1, 1);
+    private static final List<ApplicationStatus> STAGES = List.of(ApplicationStatus.APPLIED,
+            ApplicationStatus.REVIEWED, ApplicationStatus.INTERVIEW, ApplicationStatus.HIRED, ApplicationStatus.REJECTED);
+
+    private static final Comparator<CountKey> COUNT_KEY_ORDER = Comparator.comparing(CountKey::jobId)
+            .thenComparing(CountKey::day)
+            .thenComparing(CountKey::status);
+    private static final Comparator<DurationKey> DURATION_KEY_ORDER = Comparator.comparing(DurationKey::jobId)
+            .thenComparing(DurationKey::day)
+            .thenComparing(DurationKey::fromStatus)
+            .thenComparing(DurationKey::toStatus)
+            .thenComparingInt(DurationKey::bucket);
+
+    private final FunnelDailyCountRepository countRepository;
+    private final FunnelDailyDurationRepository durationRepository;
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<CountKey, Long> pendingCounts = new ConcurrentHashMap<>();
+    private final Map<DurationKey, DurationDelta> pendingDurations = new ConcurrentHashMap<>();
+
+    @Value("${app.funnel.batch-size}")
+    private int batchSize;
+
+    @Value("${app.funnel.compaction-window-days}")
+    private int compactionWindowDays;
+
+    @Value("${app.funnel.default-range-days}")
+    private int defaultRangeDays;
+
+    record CountKey(UUID jobId, LocalDate day, ApplicationStatus status) {
+    }
+
+    record DurationKey(UUID jobId, LocalDate day, ApplicationStatus fromStatus, ApplicationStatus toStatus,
+                       int bucket) {
+    }
+
+    record DurationDelta(long transitions, long totalSeconds) {
+        DurationDelta plus(DurationDelta other) {
+            return new DurationDelta(transitions + other.transitions, totalSeconds + other.totalSeconds);
+        }
+    }
+
+    public HiringFunnelService(FunnelDailyCountRepository countRepository,
+                               FunnelDailyDurationRepository durationRepository,
+                               JobRepository jobRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.countRepository = countRepository;
+        this.durationRepository = durationRepository;
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void recordApplication(UUID jobId, LocalDateTime appliedAt) {
+        pendingCounts.merge(new CountKey(jobId, appliedAt.toLocalDate(), ApplicationStatus.APPLIED), 1L, Long::sum);
+    }
+
+    public void recordTransitions(List<Transition> transitions) {
+        for (Transition transition : transitions) {
+            if (transition.jobId() == null) {
+                continue;
+            }
+
+            LocalDate day = transition.changedAt().toLocalDate();
+            pendingCounts.merge(new CountKey(transition.jobId(), day, transition.toStatus()), 1L, Long::sum);
+
+            if (transition.fromStatus() != null && transition.fromStatusAt() != null) {
+                long seconds = Math.max(0,
+                        Duration.between(transition.fromStatusAt(), transition.changedAt()).getSeconds());
+                pendingDurations.merge(
+                        new DurationKey(transition.jobId(), day, transition.fromStatus(), transition.toStatus(),
+                                bucketOf(seconds)),
+                        new DurationDelta(1, seconds),
+                        DurationDelta::plus);
+            }
+        }
+    }
+
+    /**
+     * Upserts the pending deltas in one transaction, in key order so concurrent instances cannot deadlock.
+     * Deltas of a failed flush are merged back and retried with the next one.
+     */
+    public synchronized int flush() {
+        LocalDate closedBefore = closedBefore();
+
+        SortedMap<CountKey, Long> counts = new TreeMap<>(COUNT_KEY_ORDER);
+        for (CountKey key : pendingCounts.keySet()) {
+            Long entered = pendingCounts.remove(key);
+            if (entered != null && !key.day().isBefore(closedBefore)) {
+                counts.merge(key, entered, Long::sum);
+            }
+        }
+        SortedMap<DurationKey, DurationDelta> durations = new TreeMap<>(DURATION_KEY_ORDER);
+        for (DurationKey key : pendingDurations.keySet()) {
+            DurationDelta delta = pendingDurations.remove(key);
+            if (delta != null && !key.day().isBefore(closedBefore)) {
+                durations.merge(key, delta, DurationDelta::plus);
+            }
+        }
+
+        if (counts.isEmpty() && durations.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_COUNT, counts.entrySet(), batchSize, (ps, entry) -> {
+                    ps.setObject(1, entry.getKey().jobId());
+                    ps.setObject(2, entry.getKey().day());
+                    ps.setString(3, entry.getKey().status().name());
+                    ps.setLong(4, entry.getValue());
+                });
+                jdbcTemplate.batchUpdate(UPSERT_DURATION, durations.entrySet(), batchSize, (ps, entry) -> {
+                    ps.setObject(1, entry.getKey().jobId());
+                    ps.setObject(2, entry.getKey().day());
+                    ps.setString(3, entry.getKey().fromStatus().name());
+                    ps.setString(4, entry.getKey().toStatus().name());
+                    ps.setInt(5, entry.getKey().bucket());
+                    ps.setLong(6, entry.getValue().transitions());
+                    ps.setLong(7, entry.getValue().totalSeconds());
+                });
+            });
+            return counts.size() + durations.size();
+        } catch (Exception e) {
+            log.error("Failed to flush {} funnel rollup deltas - Error: {}",
+                    counts.size() + durations.size(), e.getMessage());
+            counts.forEach((key, entered) -> pendingCounts.merge(key, entered, Long::sum));
+            durations.forEach((key, delta) -> pendingDurations.merge(key, delta, DurationDelta::plus));
+            return 0;
+        }
+    }
+
+    /**
+     * Recounts the closed days of the compaction window from the source tables, replacing the incremental rows.
+     */
+    public synchronized int compact() {
+        LocalDate to = closedBefore();
+        return rebuild(to.minusDays(compactionWindowDays), to);
+    }
+
+    /**
+     * Builds the rollups from scratch when the tables are empty, e.g. on the first start after they were added.
+     * Pending deltas are dropped because the rebuild already counts everything committed so far.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildIfEmpty() {
+        try {
+            if (countRepository.existsAny()) {
+                return;
+            }
+            pendingCounts.clear();
+            pendingDurations.clear();
+            int rows = rebuild(FIRST_DAY, LocalDate.now().plusDays(1));
+            log.info("Built {} hiring funnel rollup rows", rows);
+        } catch (Exception e) {
+            log.error("Failed to build hiring funnel rollups - Error: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public HiringFunnelDto getJobFunnel(UUID jobId, LocalDate from, LocalDate to, UUID companyId) {
+        Job job = jobRepository.findActiveById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+
+        if (!job.getCreatedBy().getId().equals(companyId)) {
+            throw new UnauthorizedException("Unauthorized access");
+        }
+
+        LocalDate rangeTo = to != null ? to : LocalDate.now();
+        LocalDate rangeFrom = from != null ? from : rangeTo.minusDays(defaultRangeDays);
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new ValidationException("from must not be after to");
+        }
+
+        Map<ApplicationStatus, Long> entered = new EnumMap<>(ApplicationStatus.class);
+        for (FunnelStageCount count : countRepository.sumByJob(jobId, rangeFrom, rangeTo)) {
+            entered.put(count.getStatus(), count.getEntered());
+        }
+        long applied = entered.getOrDefault(ApplicationStatus.APPLIED, 0L);
+
+        List<FunnelStageDto> stages = new ArrayList<>(STAGES.size());
+        for (ApplicationStatus status : STAGES) {
+            FunnelStageDto stage = new FunnelStageDto();
+            stage.setStatus(status);
+            stage.setEntered(entered.getOrDefault(status, 0L));
+            stage.setConversionRate(applied > 0 ? Math.round(10000.0 * stage.getEntered() / applied) / 100.0 : 0.0);
+            stages.add(stage);
+        }
+
+        HiringFunnelDto funnel = new HiringFunnelDto();
+        funnel.setJobId(jobId);
+        funnel.setFrom(rangeFrom);
+        funnel.setTo(rangeTo);
+        funnel.setStages(stages);
+        funnel.setStageDurations(toStageDurations(durationRepository.sumByJob(jobId, rangeFrom, rangeTo)));
+        return funnel;
+    }
+
+    static int bucketOf(long seconds) {
+        return 63 - Long.numberOfLeadingZeros(Math.max(seconds, 1));
+    }
+
+    /**
+     * Estimates the median by interpolating inside the histogram bucket that holds the middle transition.
+     */
+    static long estimateMedian(SortedMap<Integer, Long> buckets, long transitions) {
+        double rank = transitions / 2.0;
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            long count = bucket.getValue();
+            if (count > 0 && seen + count >= rank) {
+                long lower = bucket.getKey() == 0 ? 0 : 1L << bucket.getKey();
+                long upper = 1L << (bucket.getKey() + 1);
+                return Math.round(lower + (rank - seen) / count * (upper - lower));
+            }
+            seen += count;
+        }
+        return 0;
+    }
+
+    private List<StageDurationDto> toStageDurations(List<FunnelDurationBucket> rows) {
+        Map<List<ApplicationStatus>, SortedMap<Integer, Long>> histograms = new LinkedHashMap<>();
+        Map<List<ApplicationStatus>, long[]> totals = new HashMap<>();
+        for (FunnelDurationBucket row : rows) {
+            List<ApplicationStatus> pair = List.of(row.getFromStatus(), row.getToStatus());
+            histograms.computeIfAbsent(pair, key -> new TreeMap<>())
+                    .merge(row.getBucket(), row.getTransitions(), Long::sum);
+            long[] total = totals.computeIfAbsent(pair, key -> new long[2]);
+            total[0] += row.getTransitions();
+            total[1] += row.getTotalSeconds();
+        }
+
+        return histograms.entrySet().stream()
+                .map(entry -> {
+                    long[] total = totals.get(entry.getKey());
+                    StageDurationDto duration = new StageDurationDto();
+                    duration.setFromStatus(entry.getKey().get(0));
+                    duration.setToStatus(entry.getKey().get(1));
+                    duration.setTransitions(total[0]);
+                    duration.setMedianSeconds(estimateMedian(entry.getValue(), total[0]));
+                    duration.setAverageSeconds(total[0] > 0 ? total[1] / total[0] : 0);
+                    return duration;
+                })
+                .sorted(Comparator.comparing(StageDurationDto::getFromStatus)
+                        .thenComparing(StageDurationDto::getToStatus))
+                .toList();
+    }
+
+    private int rebuild(LocalDate from, LocalDate to) {
+        Integer rows = transactionTemplate.execute(status -> {
+            countRepository.deleteDays(from, to);
+            durationRepository.deleteDays(from, to);
+            return countRepository.rebuildDays(from.atStartOfDay(), to.atStartOfDay())
+                    + durationRepository.rebuildDays(from.atStartOfDay(), to.atStartOfDay());
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private LocalDate closedBefore() {
+        return LocalDate.now().minusDays(1);
+    }
+}
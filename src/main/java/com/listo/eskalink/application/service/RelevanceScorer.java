@@ -0,0 +1,154 @@
+package com.listo.eskalink.application.service;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Scores resume text against a job as a blend of keyword coverage and TF-IDF cosine similarity over the
+ * job's most frequent terms. Document frequencies come from the resumes submitted to the same job.
+ */
+@Component
+public class RelevanceScorer {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final int MAX_JOB_TERMS = 50;
+    private static final int TITLE_WEIGHT = 3;
+    private static final double OVERLAP_WEIGHT = 0.4;
+    private static final double SIMILARITY_WEIGHT = 0.6;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will", "with", "you",
+            "your", "who", "what", "which", "can", "all", "any", "not", "but", "they", "them", "us", "was",
+            "were", "been", "into", "more", "other", "than", "then", "also", "such", "etc", "able", "work"
+    );
+
+    /**
+     * Term statistics of one job's applicant pool. Instances are shared between the scoring threads of a job.
+     */
+    public static final class JobCorpus {
+        private final String fingerprint;
+        private final Map<String, Integer> jobTerms;
+        private final Map<String, AtomicInteger> documentFrequencies = new ConcurrentHashMap<>();
+        private final AtomicInteger documents = new AtomicInteger();
+
+        private JobCorpus(String fingerprint, Map<String, Integer> jobTerms) {
+            this.fingerprint = fingerprint;
+            this.jobTerms = jobTerms;
+        }
+
+        public String fingerprint() {
+            return fingerprint;
+        }
+
+        public Map<String, Integer> jobTerms() {
+            return jobTerms;
+        }
+
+        public void addDocument(Map<String, Integer> terms) {
+            terms.keySet().forEach(term -> documentFrequencies
+                    .computeIfAbsent(term, key -> new AtomicInteger())
+                    .incrementAndGet());
+            documents.incrementAndGet();
+        }
+
+        private double idf(String term) {
+            AtomicInteger frequency = documentFrequencies.get(term);
+            int df = frequency != null ? frequency.get() : 0;
+            return Math.log((documents.get() + 1.0) / (df + 1.0)) + 1.0;
+        }
+    }
+
+    public JobCorpus newCorpus(String title, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        termFrequencies(title).forEach((term, count) -> terms.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        termFrequencies(description).forEach((term, count) -> terms.merge(term, count, Integer::sum));
+
+        Map<String, Integer> jobTerms = terms.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_JOB_TERMS)
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new JobCorpus(fingerprint(title, description), jobTerms);
+    }
+
+    /**
+     * SHA-256 of the title and description, so that any edit of the job text yields a new fingerprint.
+     */
+    public String fingerprint(String title, String description) {
+        MessageDigest digest = sha256();
+        for (String value : new String[]{title, description}) {
+            byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            digest.update((value != null ? bytes.length + ":" : "null:").getBytes(StandardCharsets.US_ASCII));
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Counts the occurrences of the job's terms in the given text; all other terms are irrelevant to the score.
+     */
+    public Map<String, Integer> jobTermFrequencies(String text, Map<String, Integer> jobTerms) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(text).forEach(token -> {
+            if (jobTerms.containsKey(token)) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+        });
+        return frequencies;
+    }
+
+    public double score(JobCorpus corpus, Map<String, Integer> documentTerms) {
+        if (corpus.jobTerms.isEmpty() || documentTerms.isEmpty()) {
+            return 0.0;
+        }
+
+        double dot = 0.0;
+        double jobNorm = 0.0;
+        double documentNorm = 0.0;
+        for (Map.Entry<String, Integer> jobTerm : corpus.jobTerms.entrySet()) {
+            double idf = corpus.idf(jobTerm.getKey());
+            double jobWeight = (1.0 + Math.log(jobTerm.getValue())) * idf;
+            Integer documentCount = documentTerms.get(jobTerm.getKey());
+            double documentWeight = documentCount != null ? (1.0 + Math.log(documentCount)) * idf : 0.0;
+
+            dot += jobWeight * documentWeight;
+            jobNorm += jobWeight * jobWeight;
+            documentNorm += documentWeight * documentWeight;
+        }
+
+        double similarity = dot / (Math.sqrt(jobNorm) * Math.sqrt(documentNorm));
+        double overlap = (double) documentTerms.size() / corpus.jobTerms.size();
+        double score = 100.0 * (OVERLAP_WEIGHT * overlap + SIMILARITY_WEIGHT * similarity);
+        return Math.round(score * 100.0) / 100.0;
+    }
+
+    private Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(text).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(token -> token.length() > 1 && !STOP_WORDS.contains(token))
+                .toList();
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
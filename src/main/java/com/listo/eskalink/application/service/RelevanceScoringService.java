@@ -0,0 +1,213 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.UnscoredApplication;
+import com.listo.eskalink.application.entity.ApplicationText;
+import com.listo.eskalink.application.enums.TextExtractionStatus;
+import com.listo.eskalink.application.repository.ApplicationTextRepository;
+import com.listo.eskalink.application.service.RelevanceScorer.JobCorpus;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.event.JobChangedEvent;
+import com.listo.eskalink.job.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+/**
+ * Persists a relevance score per application. New applications are scored incrementally against the cached
+ * term statistics of their job; a job without cached statistics, or whose title or description changed,
+ * is rescored as a whole on a fork-join pool.
+ */
+@Service
+@Slf4j
+public class RelevanceScoringService {
+
+    private static final String UPDATE_SCORE = "UPDATE applications SET relevance_score = ?, scored_at = ? WHERE id = ?";
+
+    private final ApplicationTextRepository applicationTextRepository;
+    private final JobRepository jobRepository;
+    private final RelevanceScorer relevanceScorer;
+    private final JdbcTemplate jdbcTemplate;
+    private final ForkJoinPool scoringPool;
+    private final Map<UUID, JobCorpus> corpora = new ConcurrentHashMap<>();
+    private final Set<UUID> rescoring = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.relevance.page-size}")
+    private int pageSize;
+
+    @Value("${app.relevance.split-threshold}")
+    private int splitThreshold;
+
+    @Value("${app.relevance.batch-size}")
+    private int batchSize;
+
+    public RelevanceScoringService(ApplicationTextRepository applicationTextRepository,
+                                   JobRepository jobRepository,
+                                   RelevanceScorer relevanceScorer,
+                                   JdbcTemplate jdbcTemplate,
+                                   @Value("${app.relevance.parallelism}") int parallelism) {
+        this.applicationTextRepository = applicationTextRepository;
+        this.jobRepository = jobRepository;
+        this.relevanceScorer = relevanceScorer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.scoringPool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scoringPool.shutdown();
+    }
+
+    private record ResumeTerms(UUID applicationId, Map<String, Integer> terms) {
+    }
+
+    private final class ExtractTermsTask extends RecursiveTask<List<ResumeTerms>> {
+        private final List<ApplicationText> texts;
+        private final Map<String, Integer> jobTerms;
+
+        private ExtractTermsTask(List<ApplicationText> texts, Map<String, Integer> jobTerms) {
+            this.texts = texts;
+            this.jobTerms = jobTerms;
+        }
+
+        @Override
+        protected List<ResumeTerms> compute() {
+            if (texts.size() <= splitThreshold) {
+                return texts.stream()
+                        .map(text -> new ResumeTerms(text.getApplicationId(),
+                                relevanceScorer.jobTermFrequencies(searchableText(text), jobTerms)))
+                        .toList();
+            }
+
+            int middle = texts.size() / 2;
+            ExtractTermsTask left = new ExtractTermsTask(texts.subList(0, middle), jobTerms);
+            ExtractTermsTask right = new ExtractTermsTask(texts.subList(middle, texts.size()), jobTerms);
+            left.fork();
+            List<ResumeTerms> rightTerms = right.compute();
+            List<ResumeTerms> terms = new ArrayList<>(left.join());
+            terms.addAll(rightTerms);
+            return terms;
+        }
+    }
+
+    /**
+     * Scores one freshly indexed application when its job's statistics are cached; otherwise the application
+     * is left for {@link #scorePendingApplications()}.
+     */
+    public void scoreApplication(UUID applicationId, UUID jobId, String resumeText, String coverLetter) {
+        JobCorpus corpus = corpora.get(jobId);
+        if (corpus == null) {
+            return;
+        }
+
+        Map<String, Integer> terms = relevanceScorer.jobTermFrequencies(
+                nullToEmpty(resumeText) + " " + nullToEmpty(coverLetter), corpus.jobTerms());
+        corpus.addDocument(terms);
+        double score = relevanceScorer.score(corpus, terms);
+        jdbcTemplate.update(UPDATE_SCORE, score, LocalDateTime.now(), applicationId);
+    }
+
+    public int scorePendingApplications() {
+        List<UnscoredApplication> pending = applicationTextRepository.findUnscoredApplications(batchSize);
+
+        int scored = 0;
+        Map<UUID, List<UUID>> pendingByJob = pending.stream()
+                .collect(Collectors.groupingBy(UnscoredApplication::getJobId,
+                        Collectors.mapping(UnscoredApplication::getApplicationId, Collectors.toList())));
+        for (Map.Entry<UUID, List<UUID>> job : pendingByJob.entrySet()) {
+            if (!corpora.containsKey(job.getKey())) {
+                scored += rescoreJob(job.getKey());
+                continue;
+            }
+            for (ApplicationText text : applicationTextRepository.findAllById(job.getValue())) {
+                scoreApplication(text.getApplicationId(), job.getKey(), nullToEmpty(text.getResumeText()),
+                        nullToEmpty(text.getCoverLetter()));
+                scored++;
+            }
+        }
+        return scored;
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        Optional<Job> job = jobRepository.findActiveById(event.jobId());
+        if (job.isEmpty()) {
+            corpora.remove(event.jobId());
+            return;
+        }
+
+        JobCorpus corpus = corpora.get(event.jobId());
+        String fingerprint = relevanceScorer.fingerprint(job.get().getTitle(), job.get().getDescription());
+        if (corpus == null || !corpus.fingerprint().equals(fingerprint)) {
+            rescoreJob(event.jobId());
+        }
+    }
+
+    public int rescoreJob(UUID jobId) {
+        if (!rescoring.add(jobId)) {
+            return 0;
+        }
+
+        try {
+            Job job = jobRepository.findActiveById(jobId).orElse(null);
+            if (job == null) {
+                corpora.remove(jobId);
+                return 0;
+            }
+
+            long started = System.currentTimeMillis();
+            JobCorpus corpus = relevanceScorer.newCorpus(job.getTitle(), job.getDescription());
+            List<ResumeTerms> allTerms = new ArrayList<>();
+
+            Page<ApplicationText> page;
+            int pageNumber = 0;
+            do {
+                page = applicationTextRepository.findByJobIdAndStatus(jobId, TextExtractionStatus.EXTRACTED,
+                        PageRequest.of(pageNumber++, pageSize, Sort.by("applicationId")));
+                List<ResumeTerms> pageTerms = scoringPool.invoke(new ExtractTermsTask(page.getContent(), corpus.jobTerms()));
+                pageTerms.forEach(terms -> corpus.addDocument(terms.terms()));
+                allTerms.addAll(pageTerms);
+            } while (page.hasNext());
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> scores = scoringPool.submit(() -> allTerms.parallelStream()
+                    .map(terms -> new Object[]{relevanceScorer.score(corpus, terms.terms()), now, terms.applicationId()})
+                    .toList()).join();
+            for (int from = 0; from < scores.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(UPDATE_SCORE, scores.subList(from, Math.min(from + batchSize, scores.size())));
+            }
+
+            corpora.put(jobId, corpus);
+            log.info("Rescored {} applications of job: {} in {} ms", scores.size(), jobId,
+                    System.currentTimeMillis() - started);
+            return scores.size();
+        } catch (Exception e) {
+            log.error("Failed to rescore applications of job: {} - Error: {}", jobId, e.getMessage());
+            return 0;
+        } finally {
+            rescoring.remove(jobId);
+        }
+    }
+
+    private String searchableText(ApplicationText text) {
+        return nullToEmpty(text.getResumeText()) + " " + nullToEmpty(text.getCoverLetter());
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
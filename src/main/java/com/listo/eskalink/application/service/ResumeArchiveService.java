@@ -0,0 +1,158 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.ApplicationExportRow;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams a job's resumes into a ZIP archive on the response. Storage objects are opened a few entries ahead
+ * on a bounded executor so their first bytes are ready when the archive reaches them, and each one is copied
+ * into its entry as it is read; no resume is buffered whole in memory or on disk.
+ */
+@Service
+@Slf4j
+public class ResumeArchiveService {
+
+    private static final int MAX_NAME_LENGTH = 60;
+    private static final int MAX_REPORTED_FAILURES = 1000;
+
+    private final ApplicationRepository applicationRepository;
+    private final FileUploadService fileUploadService;
+    private final Executor resumeDownloadExecutor;
+
+    @Value("${app.resume-archive.prefetch}")
+    private int prefetch;
+
+    public ResumeArchiveService(ApplicationRepository applicationRepository,
+                                FileUploadService fileUploadService,
+                                @Qualifier("resumeDownloadExecutor") Executor resumeDownloadExecutor) {
+        this.applicationRepository = applicationRepository;
+        this.fileUploadService = fileUploadService;
+        this.resumeDownloadExecutor = resumeDownloadExecutor;
+    }
+
+    private record PendingEntry(String name, UUID applicationId, CompletableFuture<InputStream> content) {
+    }
+
+    @Transactional(readOnly = true)
+    public int writeResumeArchive(UUID jobId, ApplicationStatus status, OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        Deque<PendingEntry> window = new ArrayDeque<>();
+        List<String> failures = new ArrayList<>();
+        int written = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+        zip.setLevel(Deflater.NO_COMPRESSION);
+
+        try (Stream<ApplicationExportRow> rows = applicationRepository.streamForExport(
+                jobId, status != null ? status.name() : null)) {
+            Iterator<ApplicationExportRow> iterator = rows
+                    .filter(row -> row.getResumeLink() != null
+                            && ResumeStatus.UPLOADED.name().equals(row.getResumeStatus()))
+                    .iterator();
+
+            while (iterator.hasNext() || !window.isEmpty()) {
+                while (iterator.hasNext() && window.size() < prefetch) {
+                    ApplicationExportRow row = iterator.next();
+                    window.addLast(new PendingEntry(entryName(row), row.getId(), open(row.getResumeLink())));
+                }
+
+                PendingEntry entry = window.removeFirst();
+                if (writeEntry(zip, entry, failures)) {
+                    written++;
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("missing-resumes.txt"));
+                zip.write(String.join("\n", failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+        } finally {
+            window.forEach(entry -> entry.content().thenAccept(this::closeQuietly));
+        }
+
+        log.info("Archived {} resumes of job: {} ({} missing) in {} ms",
+                written, jobId, failures.size(), System.currentTimeMillis() - started);
+        return written;
+    }
+
+    private CompletableFuture<InputStream> open(String resumeLink) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fileUploadService.openFile(resumeLink);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, resumeDownloadExecutor);
+    }
+
+    private boolean writeEntry(ZipOutputStream zip, PendingEntry entry, List<String> failures) throws IOException {
+        InputStream content;
+        try {
+            content = entry.content().join();
+        } catch (CompletionException e) {
+            log.warn("Skipping resume of application: {} - Error: {}", entry.applicationId(), e.getCause().getMessage());
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(entry.applicationId().toString());
+            }
+            return false;
+        }
+
+        try (content) {
+            zip.putNextEntry(new ZipEntry(entry.name()));
+            content.transferTo(zip);
+            zip.closeEntry();
+        }
+        return true;
+    }
+
+    private String entryName(ApplicationExportRow row) {
+        String name = row.getApplicantName() != null
+                ? row.getApplicantName().replaceAll("[^A-Za-z0-9._-]+", "_")
+                : "applicant";
+        if (name.length() > MAX_NAME_LENGTH) {
+            name = name.substring(0, MAX_NAME_LENGTH);
+        }
+
+        String link = row.getResumeLink();
+        int dot = link.lastIndexOf('.');
+        String extension = dot > link.lastIndexOf('/') ? link.substring(dot) : "";
+        return name + "-" + row.getId() + extension;
+    }
+
+    private void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            log.debug("Failed to close resume stream: {}", e.getMessage());
+        }
+    }
+}
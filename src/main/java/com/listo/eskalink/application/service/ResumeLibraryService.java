@@ -0,0 +1,99 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.SavedResumeDto;
+import com.listo.eskalink.application.entity.SavedResume;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.SavedResumeRepository;
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.FileUploadService.StagedFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeLibraryService {
+
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final SavedResumeRepository savedResumeRepository;
+    private final FileUploadService fileUploadService;
+    private final ApplicationMapper applicationMapper;
+
+    @Value("${app.resume-library.max-resumes}")
+    private int maxResumes;
+
+    public SavedResumeDto saveResume(MultipartFile file, String name, UUID applicantId) throws IOException {
+        log.info("Saving resume to library for applicant: {}", applicantId);
+
+        if (savedResumeRepository.countByApplicantId(applicantId) >= maxResumes) {
+            throw new ValidationException("You can keep at most " + maxResumes + " resumes, delete one first");
+        }
+
+        StagedFile stagedResume = fileUploadService.stageResume(file);
+        try {
+            fileUploadService.retainFile(stagedResume.url());
+            try {
+                fileUploadService.uploadStagedFile(stagedResume).join();
+            } catch (CompletionException e) {
+                fileUploadService.deleteFile(stagedResume.url());
+                log.error("Failed to store library resume for applicant: {} - Error: {}", applicantId, e.getMessage());
+                throw new ValidationException("Failed to upload resume. Please try again.");
+            }
+        } finally {
+            fileUploadService.discardStagedFile(stagedResume);
+        }
+
+        try {
+            SavedResume savedResume = savedResumeRepository.save(SavedResume.builder()
+                    .applicantId(applicantId)
+                    .name(resumeName(name, file.getOriginalFilename()))
+                    .resumeLink(stagedResume.url())
+                    .contentType(stagedResume.contentType())
+                    .size(stagedResume.size())
+                    .build());
+            return applicationMapper.savedResumeToSavedResumeDto(savedResume);
+        } catch (RuntimeException e) {
+            fileUploadService.deleteFile(stagedResume.url());
+            throw e;
+        }
+    }
+
+    public List<SavedResumeDto> getResumes(UUID applicantId) {
+        return savedResumeRepository.findByApplicantIdOrderByCreatedAtDesc(applicantId).stream()
+                .map(applicationMapper::savedResumeToSavedResumeDto)
+                .toList();
+    }
+
+    public void deleteResume(UUID resumeId, UUID applicantId) {
+        SavedResume savedResume = savedResumeRepository.findByIdAndApplicantId(resumeId, applicantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume not found"));
+
+        savedResumeRepository.delete(savedResume);
+        fileUploadService.deleteFile(savedResume.getResumeLink());
+        log.info("Library resume {} deleted for applicant: {}", resumeId, applicantId);
+    }
+
+    public String resolveResumeLink(UUID resumeId, UUID applicantId) {
+        return savedResumeRepository.findResumeLink(resumeId, applicantId)
+                .orElseThrow(() -> new ValidationException("Invalid resume"));
+    }
+
+    private String resumeName(String name, String originalFilename) {
+        String resumeName = name != null && !name.isBlank() ? name.trim() : originalFilename;
+        if (resumeName == null || resumeName.isBlank()) {
+            resumeName = "Resume";
+        }
+        return resumeName.length() > MAX_NAME_LENGTH ? resumeName.substring(0, MAX_NAME_LENGTH) : resumeName;
+    }
+}
@@ -0,0 +1,111 @@
+package com.listo.eskalink.application.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+@Component
+public class ResumeTextExtractor {
+
+    private static final int MAX_PDF_PAGES = 50;
+    private static final int MAX_DOCUMENT_XML_BYTES = 20 * 1024 * 1024;
+    private static final String DOCX_DOCUMENT_ENTRY = "word/document.xml";
+
+    @Value("${app.text-extraction.max-chars}")
+    private int maxChars;
+
+    public String extract(InputStream input, String fileName) throws IOException {
+        String lowerCaseName = fileName.toLowerCase();
+        String text;
+        if (lowerCaseName.endsWith(".pdf")) {
+            text = extractPdf(input);
+        } else if (lowerCaseName.endsWith(".docx")) {
+            text = extractDocx(input);
+        } else {
+            throw new IOException("Unsupported resume format: " + fileName);
+        }
+        return normalize(text);
+    }
+
+    public String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = text.replace('\u0000', ' ').replaceAll("\\s+", " ").trim();
+        return normalized.length() > maxChars ? normalized.substring(0, maxChars) : normalized;
+    }
+
+    private String extractPdf(InputStream input) throws IOException {
+        try (PDDocument document = Loader.loadPDF(new RandomAccessReadBuffer(input))) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(MAX_PDF_PAGES);
+            return stripper.getText(document);
+        }
+    }
+
+    private String extractDocx(InputStream input) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(input)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (DOCX_DOCUMENT_ENTRY.equals(entry.getName())) {
+                    return extractDocumentXml(zip.readNBytes(MAX_DOCUMENT_XML_BYTES));
+                }
+            }
+        }
+        throw new IOException("DOCX file has no " + DOCX_DOCUMENT_ENTRY);
+    }
+
+    private String extractDocumentXml(byte[] documentXml) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        StringBuilder text = new StringBuilder();
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(new ByteArrayInputStream(documentXml));
+            boolean inText = false;
+            while (reader.hasNext() && text.length() < maxChars) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        if ("t".equals(reader.getLocalName())) {
+                            inText = true;
+                        } else if ("tab".equals(reader.getLocalName()) || "br".equals(reader.getLocalName())) {
+                            text.append(' ');
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS -> {
+                        if (inText) {
+                            text.append(reader.getText());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if ("t".equals(reader.getLocalName())) {
+                            inText = false;
+                        } else if ("p".equals(reader.getLocalName())) {
+                            text.append('\n');
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed DOCX document", e);
+        }
+        return text.toString();
+    }
+}
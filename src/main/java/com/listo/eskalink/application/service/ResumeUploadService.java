@@ -0,0 +1,225 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.CreateResumeUploadRequest;
+import com.listo.eskalink.application.dto.ResumeUploadDto;
+import com.listo.eskalink.application.entity.ResumeUpload;
+import com.listo.eskalink.application.repository.ResumeUploadRepository;
+import com.listo.eskalink.common.exception.ConflictException;
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.FileUploadService.StagedFile;
+import com.listo.eskalink.common.storage.StorageException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resumable resume uploads: chunks are appended to a part file at their declared offset, and the resume is
+ * stored once the last byte arrives. If storing it fails, the part file is kept and the client completes
+ * the upload by sending an empty chunk at the final offset.
+ * <p>
+ * Part files and the guard against concurrent chunks are local to the instance, so all requests of one
+ * upload must be routed to the same instance (sticky routing on the upload ID).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeUploadService {
+
+    private static final int PURGE_BATCH_SIZE = 500;
+
+    private final ResumeUploadRepository resumeUploadRepository;
+    private final FileUploadService fileUploadService;
+
+    private final Set<UUID> active = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.resume-upload.chunked.dir}")
+    private String uploadDirectory;
+
+    @Value("${app.resume-upload.chunked.expiration-ms}")
+    private long expirationMillis;
+
+    public ResumeUploadDto createUpload(CreateResumeUploadRequest request, UUID applicantId) throws IOException {
+        fileUploadService.validateDeclaredResume(request.getContentType(), request.getSize());
+
+        ResumeUpload upload = resumeUploadRepository.save(ResumeUpload.builder()
+                .applicantId(applicantId)
+                .contentType(request.getContentType().toLowerCase())
+                .uploadLength(request.getSize())
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(expirationMillis)))
+                .build());
+
+        Files.createDirectories(Paths.get(uploadDirectory));
+        Files.createFile(partPath(upload.getId()));
+
+        log.info("Resumable resume upload {} created for applicant: {}", upload.getId(), applicantId);
+        return toDto(upload, 0);
+    }
+
+    public ResumeUploadDto getUpload(UUID uploadId, UUID applicantId) throws IOException {
+        ResumeUpload upload = findUpload(uploadId, applicantId);
+        return toDto(upload, currentOffset(upload));
+    }
+
+    public ResumeUploadDto appendChunk(UUID uploadId, UUID applicantId, long offset, InputStream chunk) throws IOException {
+        if (!active.add(uploadId)) {
+            throw new ConflictException("Another chunk is being written to this upload");
+        }
+
+        try {
+            ResumeUpload upload = findUpload(uploadId, applicantId);
+            if (upload.getCompletedAt() != null) {
+                throw new ConflictException("Upload is already complete");
+            }
+
+            Path partPath = partPath(uploadId);
+            long newOffset;
+            try (FileChannel channel = FileChannel.open(partPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long currentOffset = channel.size();
+                if (offset != currentOffset) {
+                    throw new ConflictException("Upload offset mismatch, current offset is " + currentOffset);
+                }
+
+                try {
+                    newOffset = append(channel, Channels.newChannel(chunk), currentOffset, upload.getUploadLength());
+                } catch (ValidationException e) {
+                    channel.truncate(currentOffset);
+                    throw e;
+                }
+            }
+
+            if (newOffset == upload.getUploadLength()) {
+                completeUpload(upload, partPath);
+            }
+            return toDto(upload, newOffset);
+        } finally {
+            active.remove(uploadId);
+        }
+    }
+
+    public String resolveCompletedUpload(UUID uploadId, UUID applicantId) {
+        ResumeUpload upload = resumeUploadRepository.findByIdAndApplicantId(uploadId, applicantId)
+                .orElseThrow(() -> new ValidationException("Invalid resume upload"));
+
+        if (upload.getCompletedAt() == null) {
+            throw new ValidationException("Resume upload is not complete");
+        }
+        return upload.getResumeLink();
+    }
+
+    public int purgeExpiredUploads() {
+        List<ResumeUpload> expired = resumeUploadRepository.findByExpiresAtBefore(
+                LocalDateTime.now(), PageRequest.of(0, PURGE_BATCH_SIZE));
+
+        int purged = 0;
+        for (ResumeUpload upload : expired) {
+            if (!active.add(upload.getId())) {
+                continue;
+            }
+            try {
+                if (upload.getResumeLink() != null) {
+                    fileUploadService.deleteFile(upload.getResumeLink());
+                }
+                Files.deleteIfExists(partPath(upload.getId()));
+                resumeUploadRepository.delete(upload);
+                purged++;
+            } catch (IOException e) {
+                log.warn("Failed to purge resume upload: {} - Error: {}", upload.getId(), e.getMessage());
+            } finally {
+                active.remove(upload.getId());
+            }
+        }
+        return purged;
+    }
+
+    private long append(FileChannel channel, ReadableByteChannel source, long position, long length) throws IOException {
+        while (position < length) {
+            long transferred = channel.transferFrom(source, position, length - position);
+            if (transferred <= 0) {
+                return position;
+            }
+            position += transferred;
+        }
+
+        if (source.read(ByteBuffer.allocate(1)) > 0) {
+            throw new ValidationException("Chunk exceeds the declared upload length");
+        }
+        return position;
+    }
+
+    private void completeUpload(ResumeUpload upload, Path partPath) throws IOException {
+        StagedFile stagedFile;
+        try {
+            stagedFile = fileUploadService.inspectStagedResume(partPath);
+        } catch (ValidationException e) {
+            Files.deleteIfExists(partPath);
+            resumeUploadRepository.delete(upload);
+            throw e;
+        }
+
+        fileUploadService.retainFile(stagedFile.url());
+        try {
+            fileUploadService.uploadStagedFile(stagedFile).join();
+        } catch (RuntimeException e) {
+            fileUploadService.deleteFile(stagedFile.url());
+            log.error("Failed to store completed resume upload: {} - Error: {}", upload.getId(), e.getMessage());
+            throw new StorageException("Failed to store resume. Send an empty chunk at offset "
+                    + upload.getUploadLength() + " to retry.", e);
+        }
+
+        upload.setResumeLink(stagedFile.url());
+        upload.setCompletedAt(LocalDateTime.now());
+        resumeUploadRepository.save(upload);
+        Files.deleteIfExists(partPath);
+
+        log.info("Resumable resume upload {} completed as {}", upload.getId(), stagedFile.key());
+    }
+
+    private ResumeUpload findUpload(UUID uploadId, UUID applicantId) {
+        return resumeUploadRepository.findByIdAndApplicantId(uploadId, applicantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume upload not found"));
+    }
+
+    private long currentOffset(ResumeUpload upload) throws IOException {
+        if (upload.getCompletedAt() != null) {
+            return upload.getUploadLength();
+        }
+        Path partPath = partPath(upload.getId());
+        return Files.exists(partPath) ? Files.size(partPath) : 0;
+    }
+
+    private Path partPath(UUID uploadId) {
+        return Paths.get(uploadDirectory).resolve(uploadId + ".part");
+    }
+
+    private ResumeUploadDto toDto(ResumeUpload upload, long offset) {
+        ResumeUploadDto uploadDto = new ResumeUploadDto();
+        uploadDto.setUploadId(upload.getId());
+        uploadDto.setOffset(offset);
+        uploadDto.setLength(upload.getUploadLength());
+        uploadDto.setCompleted(upload.getCompletedAt() != null);
+        uploadDto.setResumeLink(upload.getResumeLink());
+        uploadDto.setExpiresAt(upload.getExpiresAt());
+        return uploadDto;
+    }
+}
@@ -0,0 +1,90 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.enums.ResumeStatus;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.FileUploadService.StagedFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeUploadWorker {
+
+    private final FileUploadService fileUploadService;
+    private final ApplicationRepository applicationRepository;
+
+    @Value("${app.resume-upload.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${app.resume-upload.backoff-ms}")
+    private long backoffMillis;
+
+    @Value("${app.resume-upload.stale-after-ms}")
+    private long staleAfterMillis;
+
+    @Async("resumeUploadExecutor")
+    public void upload(UUID applicationId, StagedFile stagedFile) {
+        try {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    fileUploadService.uploadStagedFile(stagedFile).join();
+                    applicationRepository.markResumeUploaded(applicationId, LocalDateTime.now());
+                    log.info("Resume uploaded for application: {} on attempt {}", applicationId, attempt);
+                    return;
+                } catch (Exception e) {
+                    log.warn("Resume upload attempt {} of {} failed for application: {} - Error: {}",
+                            attempt, maxAttempts, applicationId, e.getMessage());
+                    if (attempt < maxAttempts) {
+                        Thread.sleep(backoffMillis * attempt);
+                    }
+                }
+            }
+
+            applicationRepository.updateResumeStatus(applicationId, ResumeStatus.FAILED);
+            log.error("Resume upload failed permanently for application: {}", applicationId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Resume upload interrupted for application: {}", applicationId);
+        } finally {
+            fileUploadService.discardStagedFile(stagedFile);
+        }
+    }
+
+    /**
+     * Uploads on the calling thread with a single attempt, for when the upload pool cannot take the resume.
+     * Returns the resume status the application ends up with.
+     */
+    public ResumeStatus uploadNow(UUID applicationId, StagedFile stagedFile) {
+        try {
+            fileUploadService.uploadStagedFile(stagedFile).join();
+            applicationRepository.markResumeUploaded(applicationId, LocalDateTime.now());
+            log.info("Resume uploaded in request for application: {}", applicationId);
+            return ResumeStatus.UPLOADED;
+        } catch (Exception e) {
+            log.error("Resume upload failed for application: {} - Error: {}", applicationId, e.getMessage());
+            applicationRepository.updateResumeStatus(applicationId, ResumeStatus.FAILED);
+            return ResumeStatus.FAILED;
+        } finally {
+            fileUploadService.discardStagedFile(stagedFile);
+        }
+    }
+
+    public void failStalePendingUploads() {
+        int failed = applicationRepository.failStalePendingResumes(
+                LocalDateTime.now().minus(Duration.ofMillis(staleAfterMillis)));
+        int cleaned = fileUploadService.cleanupStagedFiles(staleAfterMillis);
+
+        if (failed > 0 || cleaned > 0) {
+            log.warn("Marked {} stale resume uploads as failed, removed {} staged files", failed, cleaned);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.listo.eskalink.common.concurrent;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer.
+ * Producers never block: when the buffer is full the element is dropped and counted.
+ */
+public class RingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    public RingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public boolean offer(E element) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+
+        slots.set((int) (claimed & mask), element);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code maxElements} published elements into {@code target}.
+     * Must only be called from one thread at a time.
+     */
+    public int drainTo(List<? super E> target, int maxElements) {
+        long current = head.get();
+        int drained = 0;
+
+        while (drained < maxElements && current < tail.get()) {
+            int index = (int) (current & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                // Slot claimed but not yet published by its producer.
+                break;
+            }
+            slots.set(index, null);
+            target.add(element);
+            current++;
+            drained++;
+        }
+
+        head.lazySet(current);
+        return drained;
+    }
+
+    public long size() {
+        return tail.get() - head.get();
+    }
+
+    public long getAndResetDropped() {
+        return dropped.sumThenReset();
+    }
+}
@@ -0,0 +1,66 @@
+package com.listo.eskalink.common.controller;
+
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.common.exception.UnauthorizedException;
+import com.listo.eskalink.common.storage.LocalFileSystemStorageBackend;
+import com.listo.eskalink.common.storage.StoredObjectInfo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves files of the local storage backend through the signed links it hands out. The link's signature is the
+ * credential, as it is for a presigned S3 URL, so the endpoint does not require a bearer token.
+ */
+@RestController
+@RequestMapping(FileDownloadController.BASE_PATH)
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@RequiredArgsConstructor
+@Tag(name = "Files", description = "Stored file downloads (local storage only)")
+public class FileDownloadController {
+
+    public static final String BASE_PATH = "/files";
+
+    private final LocalFileSystemStorageBackend storageBackend;
+
+    @GetMapping("/**")
+    @Operation(summary = "Download File", description = "Stream a stored file through a signed download link")
+    public ResponseEntity<StreamingResponseBody> downloadFile(
+            @Parameter(description = "Link expiry in epoch seconds", required = true) @RequestParam long expires,
+            @Parameter(description = "Link signature", required = true) @RequestParam String signature,
+            HttpServletRequest request) {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length() + BASE_PATH.length() + 1);
+        String key = UriUtils.decode(path, StandardCharsets.UTF_8);
+
+        if (!storageBackend.verifyDownload(key, expires, signature)) {
+            throw new UnauthorizedException("Invalid or expired download link");
+        }
+
+        StoredObjectInfo info = storageBackend.head(key)
+                .orElseThrow(() -> new ResourceNotFoundException("File not found"));
+
+        StreamingResponseBody body = output -> storageBackend.transferTo(key, Channels.newChannel(output));
+
+        return ResponseEntity.ok()
+                .contentType(info.contentType() != null
+                        ? MediaType.parseMediaType(info.contentType())
+                        : MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(info.size())
+                .body(body);
+    }
+}
@@ -0,0 +1,31 @@
+package com.listo.eskalink.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stored_files",
+        indexes = @Index(name = "idx_stored_files_unreferenced", columnList = "ref_count, updated_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFile {
+
+    @Id
+    @Column(name = "object_key", length = 255)
+    private String objectKey;
+
+    @Builder.Default
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,12 +1,14 @@
 package com.listo.eskalink.common.exception;
 
 import com.listo.eskalink.common.dto.BaseResponse;
+import com.listo.eskalink.common.storage.StorageException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
@@ -45,6 +47,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<BaseResponse<Object>> handleConflictException(ConflictException ex, WebRequest request) {
+        log.error("Conflict: {}", ex.getMessage());
+        BaseResponse<Object> response = BaseResponse.error(ex.getMessage(), ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<BaseResponse<Object>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.error("Optimistic locking failure: {}", ex.getMessage());
+        BaseResponse<Object> response = BaseResponse.error("Concurrent modification", "Resource was modified by another request, please reload and try again");
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(StorageException.class)
+    public ResponseEntity<BaseResponse<Object>> handleStorageException(StorageException ex, WebRequest request) {
+        log.error("Storage error: {}", ex.getMessage());
+        BaseResponse<Object> response = BaseResponse.error("Storage unavailable", ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<BaseResponse<Object>> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
         log.error("Validation failed: {}", ex.getMessage());
@@ -0,0 +1,321 @@
+package com.listo.eskalink.common.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.listo.eskalink.common.dto.BaseResponse;
+import com.listo.eskalink.common.service.IdempotencyService;
+import com.listo.eskalink.common.service.IdempotencyService.Claim;
+import com.listo.eskalink.common.service.IdempotencyService.StoredResponse;
+import com.listo.eskalink.security.CustomUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes retried job applications and job postings safe. A POST carrying an {@code Idempotency-Key} header
+ * runs the handler once per user and key; retries get the stored status and body back, and concurrent
+ * duplicates wait for the first request instead of running alongside it. Server errors are not stored,
+ * so the client can retry them with the same key. A key reused with a different query string or body is
+ * rejected with 422 instead of replaying the other request's response. When the key store has no room left,
+ * the request is turned away with 503 and {@code Retry-After} rather than run without protection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_BODY_BYTES = 1024 * 1024;
+    private static final int RETRY_AFTER_SECONDS = 1;
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of("/api/applications", "/api/jobs");
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.wait-timeout-ms}")
+    private long waitTimeoutMs;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !IDEMPOTENT_PATHS.contains(path(request))
+                || request.getHeader(IDEMPOTENCY_KEY) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid Idempotency-Key header",
+                    "Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest requestToUse = request;
+        String requestHash;
+        if (isContentType(request, MediaType.MULTIPART_FORM_DATA)) {
+            try {
+                requestHash = hashParts(request);
+            } catch (IllegalStateException | ServletException e) {
+                // Unreadable or oversized multipart body; let the regular handling report it.
+                filterChain.doFilter(request, response);
+                return;
+            }
+        } else if (isContentType(request, MediaType.APPLICATION_FORM_URLENCODED)) {
+            requestHash = hashParameters(request);
+        } else {
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                writeError(response, HttpStatus.PAYLOAD_TOO_LARGE.value(), "Request body too large",
+                        "Idempotent requests are limited to " + MAX_BODY_BYTES + " bytes");
+                return;
+            }
+            requestHash = hashBody(request, body);
+            requestToUse = new CachedBodyRequest(request, body);
+        }
+
+        String key = userDetails.getUserId() + ":" + path(request) + ":" + idempotencyKey;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        while (true) {
+            Claim claim = idempotencyService.claim(key, requestHash);
+            if (claim.rejected()) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+                writeError(response, HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many requests in progress",
+                        "Idempotent requests cannot be tracked right now, retry with the same Idempotency-Key");
+                return;
+            }
+            if (claim.owner()) {
+                executeOnce(key, requestToUse, response, filterChain);
+                return;
+            }
+            if (!requestHash.equals(claim.requestHash())) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY.value(), "Idempotency-Key already used",
+                        "This Idempotency-Key was used with a different request");
+                return;
+            }
+
+            try {
+                replay(response, claim.response().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+                return;
+            } catch (CancellationException | ExecutionException e) {
+                log.debug("Idempotent request failed, claiming key again: {}", idempotencyKey);
+            } catch (TimeoutException e) {
+                writeError(response, HttpServletResponse.SC_CONFLICT, "Request still in progress",
+                        "A request with this Idempotency-Key is still being processed");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, HttpServletResponse.SC_CONFLICT, "Request still in progress",
+                        "A request with this Idempotency-Key is still being processed");
+                return;
+            }
+        }
+    }
+
+    private void executeOnce(String key, HttpServletRequest request, HttpServletResponse response,
+                             FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (responseWrapper.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+                idempotencyService.complete(key, new StoredResponse(responseWrapper.getStatus(),
+                        responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message, String error) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(status);
+        objectMapper.writeValue(response.getOutputStream(), BaseResponse.error(message, error));
+    }
+
+    private String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private boolean isContentType(HttpServletRequest request, MediaType mediaType) {
+        try {
+            return request.getContentType() != null
+                    && mediaType.includes(MediaType.parseMediaType(request.getContentType()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String hashBody(HttpServletRequest request, byte[] body) {
+        MessageDigest digest = sha256();
+        update(digest, request.getQueryString());
+        digest.update(body);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String hashParameters(HttpServletRequest request) {
+        MessageDigest digest = sha256();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            update(digest, parameter.getKey());
+            for (String value : parameter.getValue()) {
+                update(digest, value);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String hashParts(HttpServletRequest request) throws IOException, ServletException {
+        MessageDigest digest = sha256();
+        update(digest, request.getQueryString());
+        for (Part part : request.getParts()) {
+            update(digest, part.getName());
+            update(digest, part.getSubmittedFileName());
+            update(digest, part.getContentType());
+            try (InputStream content = new DigestInputStream(part.getInputStream(), digest)) {
+                content.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Adds a length-prefixed value, so that adjacent values cannot run into each other.
+     */
+    private void update(MessageDigest digest, String value) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        digest.update(Integer.toString(value != null ? bytes.length : -1).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Replays a body that was read to compute the request hash.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
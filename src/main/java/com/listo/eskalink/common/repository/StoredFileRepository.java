@@ -0,0 +1,61 @@
+package com.listo.eskalink.common.repository;
+
+import com.listo.eskalink.common.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO stored_files (object_key, ref_count, created_at, updated_at) " +
+            "VALUES (:objectKey, 1, :now, :now) " +
+            "ON CONFLICT (object_key) DO UPDATE SET ref_count = stored_files.ref_count + 1, updated_at = :now",
+            nativeQuery = true)
+    @Transactional
+    int retain(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE stored_files SET ref_count = GREATEST(ref_count - :references, 0), updated_at = :now " +
+            "WHERE object_key IN (:objectKeys)",
+            nativeQuery = true)
+    @Transactional
+    int release(@Param("objectKeys") Collection<String> objectKeys,
+                @Param("references") int references,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * Records the keys as unreferenced since {@code unreferencedSince} so the purge deletes their objects. Keys
+     * that are tracked already, for instance because a new upload retained them again, are left untouched.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stored_files (object_key, ref_count, created_at, updated_at) " +
+            "SELECT queued.object_key, 0, :unreferencedSince, :unreferencedSince " +
+            "FROM unnest(ARRAY[:objectKeys]) AS queued(object_key) " +
+            "ON CONFLICT (object_key) DO NOTHING",
+            nativeQuery = true)
+    @Transactional
+    int queueForPurge(@Param("objectKeys") Collection<String> objectKeys,
+                      @Param("unreferencedSince") LocalDateTime unreferencedSince);
+
+    @Query("SELECT f.objectKey FROM StoredFile f WHERE f.objectKey IN :objectKeys")
+    List<String> findTrackedKeys(@Param("objectKeys") Collection<String> objectKeys);
+
+    @Query(value = "WITH purged AS (" +
+            "DELETE FROM stored_files WHERE object_key IN (" +
+            "SELECT object_key FROM stored_files WHERE ref_count = 0 AND updated_at < :cutoff " +
+            "ORDER BY updated_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING object_key) " +
+            "SELECT object_key FROM purged",
+            nativeQuery = true)
+    @Transactional
+    List<String> purgeUnreferenced(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
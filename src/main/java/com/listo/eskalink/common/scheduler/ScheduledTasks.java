@@ -1,5 +1,19 @@
 package com.listo.eskalink.common.scheduler;
 
+import com.listo.eskalink.application.service.ApplicationChangeFeedService;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService;
+import com.listo.eskalink.application.service.ApplicationStatusStreamService;
+import com.listo.eskalink.application.service.ApplicationTextIndexer;
+import com.listo.eskalink.application.service.HiringFunnelService;
+import com.listo.eskalink.application.service.RelevanceScoringService;
+import com.listo.eskalink.application.service.ResumeUploadService;
+import com.listo.eskalink.application.service.ResumeUploadWorker;
+import com.listo.eskalink.common.service.DownloadUrlService;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.IdempotencyService;
+import com.listo.eskalink.job.service.JobClosureWorker;
+import com.listo.eskalink.job.service.JobDeletionWorker;
+import com.listo.eskalink.job.service.SearchQueryLogService;
 import com.listo.eskalink.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +26,20 @@ import org.springframework.stereotype.Component;
 public class ScheduledTasks {
 
     private final UserService userService;
+    private final SearchQueryLogService searchQueryLogService;
+    private final JobDeletionWorker jobDeletionWorker;
+    private final JobClosureWorker jobClosureWorker;
+    private final ResumeUploadWorker resumeUploadWorker;
+    private final FileUploadService fileUploadService;
+    private final ResumeUploadService resumeUploadService;
+    private final ApplicationTextIndexer applicationTextIndexer;
+    private final RelevanceScoringService relevanceScoringService;
+    private final DownloadUrlService downloadUrlService;
+    private final ApplicationStatusHistoryService statusHistoryService;
+    private final HiringFunnelService hiringFunnelService;
+    private final ApplicationChangeFeedService changeFeedService;
+    private final ApplicationStatusStreamService statusStreamService;
+    private final IdempotencyService idempotencyService;
 
     @Scheduled(fixedRate = 3600000)
     public void cleanupExpiredTokens() {
@@ -19,4 +47,113 @@ public class ScheduledTasks {
         userService.cleanupExpiredTokens();
         log.info("Cleanup completed");
     }
+
+    @Scheduled(fixedDelayString = "${app.search-log.flush-interval-ms}")
+    public void flushSearchQueryLog() {
+        int flushed = searchQueryLogService.flush();
+        if (flushed > 0) {
+            log.debug("Flushed {} search query log entries", flushed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.status-history.flush-interval-ms}")
+    public void flushStatusHistory() {
+        int flushed = statusHistoryService.flush();
+        if (flushed > 0) {
+            log.debug("Appended {} status history entries", flushed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.status-stream.heartbeat-interval-ms}")
+    public void sendStatusStreamHeartbeats() {
+        int streams = statusStreamService.sendHeartbeats();
+        if (streams > 0) {
+            log.debug("Sent heartbeats to {} application status streams", streams);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.sequence-interval-ms}")
+    public void sequenceApplicationChanges() {
+        int sequenced = changeFeedService.sequencePendingChanges();
+        if (sequenced > 0) {
+            log.debug("Sequenced {} application changes", sequenced);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.funnel.flush-interval-ms}")
+    public void flushFunnelRollups() {
+        int flushed = hiringFunnelService.flush();
+        if (flushed > 0) {
+            log.debug("Flushed {} hiring funnel rollup deltas", flushed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.funnel.compaction-interval-ms}")
+    public void compactFunnelRollups() {
+        int rows = hiringFunnelService.compact();
+        log.info("Compacted hiring funnel rollups into {} rows", rows);
+    }
+
+    @Scheduled(fixedDelayString = "${app.job-deletion.resume-interval-ms}")
+    public void resumePendingJobDeletions() {
+        jobDeletionWorker.resumePendingDeletions();
+    }
+
+    @Scheduled(fixedDelayString = "${app.job-closure.resume-interval-ms}")
+    public void resumePendingJobClosures() {
+        jobClosureWorker.resumePendingClosures();
+    }
+
+    @Scheduled(fixedDelayString = "${app.resume-upload.sweep-interval-ms}")
+    public void failStaleResumeUploads() {
+        resumeUploadWorker.failStalePendingUploads();
+    }
+
+    @Scheduled(fixedDelayString = "${app.resume-upload.chunked.purge-interval-ms}")
+    public void purgeExpiredResumeUploads() {
+        int purged = resumeUploadService.purgeExpiredUploads();
+        if (purged > 0) {
+            log.info("Purged {} expired resumable resume uploads", purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.text-extraction.poll-interval-ms}")
+    public void indexApplicationTexts() {
+        int submitted = applicationTextIndexer.indexPendingApplications();
+        if (submitted > 0) {
+            log.debug("Submitted {} applications for text extraction", submitted);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.relevance.poll-interval-ms}")
+    public void scorePendingApplications() {
+        int scored = relevanceScoringService.scorePendingApplications();
+        if (scored > 0) {
+            log.debug("Scored {} applications for relevance", scored);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.download-urls.purge-interval-ms}")
+    public void purgeExpiredDownloadUrls() {
+        int purged = downloadUrlService.purgeExpired();
+        if (purged > 0) {
+            log.debug("Purged {} expiring download URLs", purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms}")
+    public void purgeExpiredIdempotencyKeys() {
+        int purged = idempotencyService.purgeExpired();
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stored-files.purge-interval-ms}")
+    public void purgeUnreferencedFiles() {
+        int purged = fileUploadService.purgeUnreferencedFiles();
+        if (purged > 0) {
+            log.info("Purged {} unreferenced stored files", purged);
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package com.listo.eskalink.common.service;
+
+import com.listo.eskalink.common.storage.PresignedDownload;
+import com.listo.eskalink.common.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out presigned download URLs for stored files. Signed URLs are cached per object key and reused until
+ * shortly before they expire, so listing pages do not sign the same keys on every request.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DownloadUrlService {
+
+    private final StorageBackend storageBackend;
+
+    private final Map<String, PresignedDownload> signedUrls = new ConcurrentHashMap<>();
+
+    @Value("${aws.s3.presign.download-expiration-seconds}")
+    private long expirationSeconds;
+
+    @Value("${app.download-urls.refresh-margin-seconds}")
+    private long refreshMarginSeconds;
+
+    @Value("${app.download-urls.cache-max-entries}")
+    private int cacheMaxEntries;
+
+    /**
+     * Returns a presigned URL for the file stored at {@code fileUrl}, which stays valid for at least the
+     * refresh margin.
+     */
+    public String downloadUrl(String fileUrl) {
+        if (fileUrl == null) {
+            return null;
+        }
+
+        String key = storageBackend.keyFromUrl(fileUrl);
+        Instant reusableUntil = Instant.now().plusSeconds(refreshMarginSeconds);
+        PresignedDownload cached = signedUrls.get(key);
+        if (cached != null && cached.expiresAt().isAfter(reusableUntil)) {
+            return cached.downloadUrl();
+        }
+
+        PresignedDownload signed = storageBackend.presignDownload(key, Duration.ofSeconds(expirationSeconds));
+        if (cached != null || signedUrls.size() < cacheMaxEntries) {
+            signedUrls.put(key, signed);
+        }
+        return signed.downloadUrl();
+    }
+
+    public int purgeExpired() {
+        Instant reusableUntil = Instant.now().plusSeconds(refreshMarginSeconds);
+        int before = signedUrls.size();
+        signedUrls.values().removeIf(signed -> !signed.expiresAt().isAfter(reusableUntil));
+        return before - signedUrls.size();
+    }
+}
@@ -1,41 +1,56 @@
 package com.listo.eskalink.common.service;
 
 import com.listo.eskalink.common.exception.ValidationException;
-import jakarta.annotation.PostConstruct;
+import com.listo.eskalink.common.repository.StoredFileRepository;
+import com.listo.eskalink.common.storage.PresignedUpload;
+import com.listo.eskalink.common.storage.StorageBackend;
+import com.listo.eskalink.common.storage.StoredObjectInfo;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class FileUploadService {
 
-    @Value("${aws.s3.access-key}")
-    private String accessKey;
+    private final StorageBackend storageBackend;
+    private final StoredFileRepository storedFileRepository;
 
-    @Value("${aws.s3.secret-key}")
-    private String secretKey;
+    @Value("${app.resume-staging.dir}")
+    private String stagingDirectory;
 
-    @Value("${aws.s3.region}")
-    private String region;
+    @Value("${aws.s3.presign.upload-expiration-seconds}")
+    private long uploadUrlExpirationSeconds;
 
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    @Value("${app.stored-files.purge-grace-ms}")
+    private long purgeGraceMillis;
 
-    private S3Client s3Client;
+    @Value("${app.stored-files.purge-batch-size}")
+    private int purgeBatchSize;
+
+    public record StagedFile(Path path, String key, String url, String contentType, long size) {
+    }
 
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
             "application/pdf",
@@ -44,58 +59,278 @@ public class FileUploadService {
 
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("pdf", "docx");
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    private static final String OWNER_METADATA = "owner-id";
+    private static final Pattern RESUME_KEY_PATTERN = Pattern.compile("^resumes/[0-9a-f\\-]{36}\\.(pdf|docx)$");
+    private static final int BUFFER_SIZE = 8192;
+
+    private enum ResumeFormat {
+        PDF("pdf", "application/pdf", "%PDF-".getBytes(StandardCharsets.US_ASCII)),
+        DOCX("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+                new byte[]{'P', 'K', 0x03, 0x04});
+
+        private static final int HEADER_LENGTH = 5;
+
+        private final String extension;
+        private final String contentType;
+        private final byte[] magic;
+
+        ResumeFormat(String extension, String contentType, byte[] magic) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.magic = magic;
+        }
+
+        private static Optional<ResumeFormat> sniff(byte[] header, int length) {
+            return Arrays.stream(values())
+                    .filter(format -> length >= format.magic.length
+                            && Arrays.equals(header, 0, format.magic.length, format.magic, 0, format.magic.length))
+                    .findFirst();
+        }
+    }
+
+    private record IngestedResume(String sha256, ResumeFormat format, long size) {
+    }
+
+    public void validateDeclaredResume(String contentType, long size) {
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+            throw new ValidationException("Only PDF and DOCX files are allowed");
+        }
+        if (size <= 0 || size > MAX_FILE_SIZE) {
+            throw new ValidationException("File size must not exceed 5MB");
+        }
+    }
+
+    public PresignedUpload presignResumeUpload(String contentType, long size, UUID ownerId) {
+        validateDeclaredResume(contentType, size);
+
+        String extension = contentType.equalsIgnoreCase("application/pdf") ? "pdf" : "docx";
+        String key = "resumes/" + UUID.randomUUID() + "." + extension;
+
+        PresignedUpload presignedUpload = storageBackend.presignUpload(key, contentType.toLowerCase(), size,
+                        Map.of(OWNER_METADATA, ownerId.toString()), Duration.ofSeconds(uploadUrlExpirationSeconds))
+                .orElseThrow(() -> new ValidationException(
+                        "Direct uploads are not supported, please upload the resume file"));
+        log.info("Presigned resume upload issued for key: {}", key);
+        return presignedUpload;
+    }
+
+    public String verifyUploadedResume(String key, UUID ownerId) {
+        if (key == null || !RESUME_KEY_PATTERN.matcher(key).matches()) {
+            throw new ValidationException("Invalid resume key");
+        }
 
-    @PostConstruct
-    public void initializeS3Client() {
+        StoredObjectInfo info;
         try {
-            AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
-            s3Client = S3Client.builder()
-                    .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
-                    .region(Region.of(region))
-                    .build();
-            log.info("S3 v2 client initialized successfully");
+            info = storageBackend.head(key)
+                    .orElseThrow(() -> new ValidationException("Resume has not been uploaded"));
+        } catch (ValidationException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Failed to initialize S3 v2 client: {}", e.getMessage());
+            log.error("Failed to verify uploaded resume {}: {}", key, e.getMessage());
+            throw new ValidationException("Failed to verify resume. Please try again.");
         }
+
+        if (!ownerId.toString().equals(info.metadata().get(OWNER_METADATA))) {
+            throw new ValidationException("Invalid resume key");
+        }
+        if (info.size() > MAX_FILE_SIZE) {
+            throw new ValidationException("File size must not exceed 5MB");
+        }
+        if (info.contentType() == null || !ALLOWED_CONTENT_TYPES.contains(info.contentType().toLowerCase())) {
+            throw new ValidationException("Only PDF and DOCX files are allowed");
+        }
+
+        return storageBackend.url(key);
     }
 
-    public String uploadResume(MultipartFile file) throws IOException {
+    public StagedFile stageResume(MultipartFile file) throws IOException {
         validateFile(file);
 
-        String fileName = generateFileName(file.getOriginalFilename());
-        String key = "resumes/" + fileName;
+        Path directory = Paths.get(stagingDirectory);
+        Files.createDirectories(directory);
+        Path stagedPath = directory.resolve(UUID.randomUUID() + ".part");
+
+        IngestedResume resume;
+        try (InputStream input = file.getInputStream();
+             OutputStream output = Files.newOutputStream(stagedPath, StandardOpenOption.CREATE_NEW)) {
+            resume = ingest(input, output);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedPath);
+            throw e;
+        }
+
+        log.debug("Resume staged locally: {}", stagedPath);
+        return toStagedFile(stagedPath, resume);
+    }
+
+    public StagedFile inspectStagedResume(Path stagedPath) throws IOException {
+        try (InputStream input = Files.newInputStream(stagedPath)) {
+            return toStagedFile(stagedPath, ingest(input, OutputStream.nullOutputStream()));
+        }
+    }
 
+    public CompletableFuture<Void> uploadStagedFile(StagedFile stagedFile) {
+        if (storageBackend.head(stagedFile.key()).isPresent()) {
+            log.info("File already stored, skipping upload: {}", stagedFile.url());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return storageBackend.putAsync(stagedFile.key(), stagedFile.path(), stagedFile.contentType(), Map.of())
+                .thenRun(() -> log.info("File uploaded successfully: {}", stagedFile.url()));
+    }
+
+    public void discardStagedFile(StagedFile stagedFile) {
         try {
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .build();
+            Files.deleteIfExists(stagedFile.path());
+        } catch (IOException e) {
+            log.warn("Failed to delete staged file: {} - Error: {}", stagedFile.path(), e.getMessage());
+        }
+    }
+
+    public int cleanupStagedFiles(long olderThanMillis) {
+        Path directory = Paths.get(stagingDirectory);
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
 
-            s3Client.putObject(putRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        long cutoff = System.currentTimeMillis() - olderThanMillis;
+        int deleted = 0;
+        try (var files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                if (Files.getLastModifiedTime(path).toMillis() < cutoff && Files.deleteIfExists(path)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up staging directory: {} - Error: {}", directory, e.getMessage());
+        }
+        return deleted;
+    }
 
-            String fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
-            log.info("File uploaded successfully: {}", fileUrl);
+    public InputStream openFile(String fileUrl) throws IOException {
+        return storageBackend.openStream(storageBackend.keyFromUrl(fileUrl));
+    }
 
-            return fileUrl;
+    public void retainFile(String fileUrl) {
+        storedFileRepository.retain(storageBackend.keyFromUrl(fileUrl), LocalDateTime.now());
+    }
+
+    public void deleteFile(String fileUrl) {
+        try {
+            deleteFiles(List.of(fileUrl));
         } catch (Exception e) {
-            log.error("Failed to upload file to S3: {}", e.getMessage());
-            throw new ValidationException("Failed to upload resume. Please try again.");
+            log.error("Failed to delete file from storage: {}", e.getMessage());
         }
     }
 
-    public void deleteFile(String fileUrl) {
+    /**
+     * Releases one reference per URL. Files that predate reference counting are queued for the unreferenced-file
+     * purge rather than deleted here, so the call does no storage I/O and can run inside the caller's
+     * transaction.
+     */
+    public int deleteFiles(List<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Long> references = fileUrls.stream()
+                .map(storageBackend::keyFromUrl)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Set<String> trackedKeys = new HashSet<>(storedFileRepository.findTrackedKeys(references.keySet()));
+
+        Map<Long, List<String>> trackedByReferences = references.entrySet().stream()
+                .filter(entry -> trackedKeys.contains(entry.getKey()))
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        LocalDateTime now = LocalDateTime.now();
+        trackedByReferences.forEach((count, keys) -> storedFileRepository.release(keys, count.intValue(), now));
+
+        List<String> untrackedKeys = references.keySet().stream()
+                .filter(key -> !trackedKeys.contains(key))
+                .toList();
+        if (!untrackedKeys.isEmpty()) {
+            storedFileRepository.queueForPurge(untrackedKeys, purgeCutoff(now));
+        }
+
+        log.info("Released {} file references, queued {} untracked files for purge", fileUrls.size(),
+                untrackedKeys.size());
+        return fileUrls.size();
+    }
+
+    /**
+     * Deletes the rows of files that have been unreferenced for the grace period, then their objects once that
+     * delete has committed. Keys whose objects could not be deleted are queued again for the next run.
+     */
+    public int purgeUnreferencedFiles() {
+        LocalDateTime cutoff = purgeCutoff(LocalDateTime.now());
+        List<String> keys = storedFileRepository.purgeUnreferenced(cutoff, purgeBatchSize);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
         try {
-            String key = extractKeyFromUrl(fileUrl);
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-
-            s3Client.deleteObject(deleteRequest);
-            log.info("File deleted successfully: {}", fileUrl);
+            storageBackend.deleteAll(keys);
         } catch (Exception e) {
-            log.error("Failed to delete file from S3: {}", e.getMessage());
+            log.error("Failed to delete {} unreferenced files from storage - Error: {}", keys.size(), e.getMessage());
+            storedFileRepository.queueForPurge(keys, cutoff);
+            return 0;
+        }
+        return keys.size();
+    }
+
+    private LocalDateTime purgeCutoff(LocalDateTime now) {
+        return now.minus(Duration.ofMillis(purgeGraceMillis));
+    }
+
+    private StagedFile toStagedFile(Path stagedPath, IngestedResume resume) {
+        String key = "resumes/" + resume.sha256() + "." + resume.format().extension;
+        return new StagedFile(stagedPath, key, storageBackend.url(key), resume.format().contentType, resume.size());
+    }
+
+    private IngestedResume ingest(InputStream input, OutputStream output) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] header = new byte[ResumeFormat.HEADER_LENGTH];
+        int headerLength = 0;
+        ResumeFormat format = null;
+        long size = 0;
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            if (headerLength < header.length) {
+                int copied = Math.min(read, header.length - headerLength);
+                System.arraycopy(buffer, 0, header, headerLength, copied);
+                headerLength += copied;
+            }
+            if (format == null && headerLength == header.length) {
+                format = sniffResumeFormat(header, headerLength);
+            }
+
+            size += read;
+            if (size > MAX_FILE_SIZE) {
+                throw new ValidationException("File size must not exceed 5MB");
+            }
+
+            digest.update(buffer, 0, read);
+            output.write(buffer, 0, read);
+        }
+
+        if (format == null) {
+            format = sniffResumeFormat(header, headerLength);
+        }
+        return new IngestedResume(HexFormat.of().formatHex(digest.digest()), format, size);
+    }
+
+    private ResumeFormat sniffResumeFormat(byte[] header, int length) {
+        return ResumeFormat.sniff(header, length)
+                .orElseThrow(() -> new ValidationException("Only PDF and DOCX files are allowed"));
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
@@ -124,11 +359,6 @@ public class FileUploadService {
         }
     }
 
-    private String generateFileName(String originalFilename) {
-        String extension = getFileExtension(originalFilename);
-        return UUID.randomUUID().toString() + "." + extension;
-    }
-
     private String getFileExtension(String filename) {
         int lastDotIndex = filename.lastIndexOf('.');
         if (lastDotIndex == -1) {
@@ -136,8 +366,4 @@ public class FileUploadService {
         }
         return filename.substring(lastDotIndex + 1);
     }
-
-    private String extractKeyFromUrl(String fileUrl) {
-        return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-    }
 }
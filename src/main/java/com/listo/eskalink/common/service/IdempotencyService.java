@@ -0,0 +1,124 @@
+package com.listo.eskalink.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the first response to each idempotency key for a limited time. A key is claimed by the first
+ * request that presents it; later requests with the same key get that request's response, waiting for it
+ * while it is still running. Each key also remembers a hash of the request that claimed it, so a key reused
+ * for a different request can be told apart from a retry. Responses are kept in memory, so keys are only
+ * deduplicated per instance. When the store is full, expired entries are purged and then the completed entry
+ * closest to expiry is evicted; if every slot belongs to a request still in flight, the new request is
+ * rejected rather than run without protection.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.ttl-seconds}")
+    private long ttlSeconds;
+
+    @Value("${app.idempotency.max-entries}")
+    private int maxEntries;
+
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * Outcome of {@link #claim}: the caller either owns the key and must {@link #complete} or {@link #release}
+     * it, or gets the response of the request that owns it, which was made with {@code requestHash}. Without a
+     * store slot the request is rejected and must not run.
+     */
+    public record Claim(boolean owner, CompletableFuture<StoredResponse> response, String requestHash) {
+
+        public boolean rejected() {
+            return !owner && response == null;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+        private final String requestHash;
+        private volatile Instant expiresAt;
+
+        private Entry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private boolean isExpired(Instant now) {
+            Instant expiry = expiresAt;
+            return expiry != null && !expiry.isAfter(now);
+        }
+    }
+
+    public Claim claim(String key, String requestHash) {
+        Instant now = Instant.now();
+        Entry existing = entries.get(key);
+        if (existing != null && existing.isExpired(now)) {
+            entries.remove(key, existing);
+            existing = null;
+        }
+
+        if (existing == null) {
+            if (entries.size() >= maxEntries && !makeRoom()) {
+                log.warn("Idempotency store full of requests in flight, rejecting request");
+                return new Claim(false, null, null);
+            }
+
+            Entry claimed = new Entry(requestHash);
+            existing = entries.putIfAbsent(key, claimed);
+            if (existing == null) {
+                return new Claim(true, claimed.response, requestHash);
+            }
+        }
+        return new Claim(false, existing.response, existing.requestHash);
+    }
+
+    public void complete(String key, StoredResponse response) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.expiresAt = Instant.now().plusSeconds(ttlSeconds);
+            entry.response.complete(response);
+        }
+    }
+
+    /**
+     * Forgets a key whose request failed, so a retry runs the handler again. Requests waiting on it are told
+     * to claim the key again.
+     */
+    public void release(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            entry.response.cancel(false);
+        }
+    }
+
+    private boolean makeRoom() {
+        if (purgeExpired() > 0 && entries.size() < maxEntries) {
+            return true;
+        }
+
+        return entries.entrySet().stream()
+                .filter(entry -> entry.getValue().expiresAt != null)
+                .min(Comparator.comparing(entry -> entry.getValue().expiresAt))
+                .map(entry -> entries.remove(entry.getKey(), entry.getValue()))
+                .orElse(false);
+    }
+
+    public int purgeExpired() {
+        Instant now = Instant.now();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        return before - entries.size();
+    }
+}
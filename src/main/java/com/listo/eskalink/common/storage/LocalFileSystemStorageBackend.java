@@ -0,0 +1,279 @@
+package com.listo.eskalink.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stores objects as plain files under a root directory. Writes and reads go through
+ * {@link FileChannel#transferFrom} / {@link FileChannel#transferTo} so the kernel can move the bytes without
+ * copying them through the JVM heap. Content type and metadata are kept in a sidecar properties file.
+ * <p>
+ * Objects are served by {@code FileDownloadController} under {@code app.storage.local.base-url}. Download URLs
+ * carry an expiry and an HMAC signature over the key, so a link is only usable while it would have been valid
+ * as a presigned S3 URL.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@Slf4j
+public class LocalFileSystemStorageBackend implements StorageBackend {
+
+    private static final String METADATA_DIRECTORY = ".metadata";
+    private static final String CONTENT_TYPE_PROPERTY = "content-type";
+    private static final String METADATA_PREFIX = "meta.";
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final String baseUrl;
+    private final SecretKeySpec signingKey;
+
+    public LocalFileSystemStorageBackend(@Value("${app.storage.local.root-dir}") String rootDirectory,
+                                         @Value("${app.storage.local.base-url}") String baseUrl,
+                                         @Value("${app.storage.local.signing-key}") String signingKey) throws IOException {
+        this.root = Paths.get(rootDirectory).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.replaceAll("/+$", "");
+        this.signingKey = new SecretKeySpec(signingKeyBytes(signingKey), SIGNATURE_ALGORITHM);
+        Files.createDirectories(root);
+        log.info("Local storage backend initialized at: {}", root);
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType, Map<String, String> metadata) throws IOException {
+        try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ)) {
+            write(key, input, input.size(), contentType, metadata);
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType,
+                    Map<String, String> metadata) throws IOException {
+        write(key, Channels.newChannel(content), size, contentType, metadata);
+    }
+
+    /**
+     * Stores the file on the calling thread; the copy is a kernel transfer, so there is no I/O to overlap.
+     */
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Path source, String contentType, Map<String, String> metadata) {
+        try {
+            put(key, source, contentType, metadata);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new StorageException("Failed to store " + key, e));
+        }
+    }
+
+    @Override
+    public Optional<StoredObjectInfo> head(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            Properties properties = readMetadata(key);
+            Map<String, String> metadata = new HashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(METADATA_PREFIX)) {
+                    metadata.put(name.substring(METADATA_PREFIX.length()), properties.getProperty(name));
+                }
+            }
+            return Optional.of(new StoredObjectInfo(key, Files.size(path),
+                    properties.getProperty(CONTENT_TYPE_PROPERTY), metadata));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public long transferTo(String key, WritableByteChannel target) throws IOException {
+        try (FileChannel input = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = input.size();
+            long position = 0;
+            while (position < size) {
+                position += input.transferTo(position, size - position, target);
+            }
+            return size;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+            Files.deleteIfExists(metadataPath(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int deleteAll(List<String> keys) {
+        keys.forEach(this::delete);
+        return keys.size();
+    }
+
+    @Override
+    public String url(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public PresignedDownload presignDownload(String key, Duration expiration) {
+        Instant expiresAt = Instant.now().plus(expiration).truncatedTo(ChronoUnit.SECONDS);
+        long expires = expiresAt.getEpochSecond();
+        return new PresignedDownload(key, url(key) + "?expires=" + expires + "&signature=" + sign(key, expires),
+                expiresAt);
+    }
+
+    /**
+     * Checks a download link produced by {@link #presignDownload}: the signature must match the key and expiry,
+     * and the expiry must not have passed.
+     */
+    public boolean verifyDownload(String key, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(key, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        if (url.startsWith(baseUrl + "/")) {
+            return url.substring(baseUrl.length() + 1);
+        }
+        String path = URI.create(url).getPath();
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    private String sign(String key, long expires) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            return HexFormat.of().formatHex(mac.doFinal((key + "\n" + expires).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign download of " + key, e);
+        }
+    }
+
+    private static byte[] signingKeyBytes(String signingKey) {
+        if (signingKey != null && !signingKey.isBlank()) {
+            return signingKey.getBytes(StandardCharsets.UTF_8);
+        }
+
+        log.warn("No app.storage.local.signing-key configured, download links will not survive a restart " +
+                "or work on other nodes");
+        byte[] generated = new byte[32];
+        new SecureRandom().nextBytes(generated);
+        return generated;
+    }
+
+    private void write(String key, ReadableByteChannel input, long size, String contentType,
+                       Map<String, String> metadata) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temporary = target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+
+        try {
+            try (FileChannel output = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (position < size) {
+                    long transferred = output.transferFrom(input, position, size - position);
+                    if (transferred <= 0) {
+                        throw new IOException("Unexpected end of content after " + position + " of " + size + " bytes");
+                    }
+                    position += transferred;
+                }
+            }
+
+            writeMetadata(key, contentType, metadata);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void writeMetadata(String key, String contentType, Map<String, String> metadata) throws IOException {
+        Properties properties = new Properties();
+        if (contentType != null) {
+            properties.setProperty(CONTENT_TYPE_PROPERTY, contentType);
+        }
+        if (metadata != null) {
+            metadata.forEach((name, value) -> properties.setProperty(METADATA_PREFIX + name, value));
+        }
+
+        Path path = metadataPath(key);
+        Files.createDirectories(path.getParent());
+        try (OutputStream output = Files.newOutputStream(path)) {
+            properties.store(output, null);
+        }
+    }
+
+    private Properties readMetadata(String key) throws IOException {
+        Properties properties = new Properties();
+        Path path = metadataPath(key);
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+
+    private Path metadataPath(String key) {
+        return resolveUnder(root.resolve(METADATA_DIRECTORY), key + ".properties");
+    }
+
+    private Path resolve(String key) {
+        if (key.startsWith(METADATA_DIRECTORY + "/")) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return resolveUnder(root, key);
+    }
+
+    private Path resolveUnder(Path base, String key) {
+        Path path = base.resolve(key).normalize();
+        if (!path.startsWith(base) || path.equals(base)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+}
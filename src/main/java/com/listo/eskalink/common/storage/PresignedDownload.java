@@ -0,0 +1,6 @@
+package com.listo.eskalink.common.storage;
+
+import java.time.Instant;
+
+public record PresignedDownload(String key, String downloadUrl, Instant expiresAt) {
+}
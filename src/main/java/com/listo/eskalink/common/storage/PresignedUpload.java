@@ -0,0 +1,7 @@
+package com.listo.eskalink.common.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record PresignedUpload(String key, String uploadUrl, Map<String, String> requiredHeaders, Instant expiresAt) {
+}
@@ -0,0 +1,227 @@
+package com.listo.eskalink.common.storage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "s3", matchIfMissing = true)
+@Slf4j
+public class S3StorageBackend implements StorageBackend {
+
+    private static final int MAX_KEYS_PER_DELETE = 1000; // S3 DeleteObjects limit
+
+    private final String bucketName;
+    private final String region;
+    private final String endpoint;
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+
+    public S3StorageBackend(@Value("${aws.s3.access-key}") String accessKey,
+                            @Value("${aws.s3.secret-key}") String secretKey,
+                            @Value("${aws.s3.region}") String region,
+                            @Value("${aws.s3.bucket}") String bucketName,
+                            @Value("${aws.s3.endpoint:}") String endpoint) {
+        this.bucketName = bucketName;
+        this.region = region;
+        this.endpoint = endpoint;
+
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(accessKey, secretKey));
+        var syncBuilder = S3Client.builder()
+                .credentialsProvider(credentials)
+                .region(Region.of(region));
+        var presignerBuilder = S3Presigner.builder()
+                .credentialsProvider(credentials)
+                .region(Region.of(region));
+        var asyncBuilder = S3AsyncClient.builder()
+                .credentialsProvider(credentials)
+                .region(Region.of(region));
+
+        if (hasCustomEndpoint()) {
+            syncBuilder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+            asyncBuilder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+            presignerBuilder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+
+        this.s3Client = syncBuilder.build();
+        this.s3AsyncClient = asyncBuilder.build();
+        this.s3Presigner = presignerBuilder.build();
+        log.info("S3 storage backend initialized for bucket: {}", bucketName);
+    }
+
+    @PreDestroy
+    public void close() {
+        s3Client.close();
+        s3AsyncClient.close();
+        s3Presigner.close();
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType, Map<String, String> metadata) {
+        s3Client.putObject(putRequest(key, contentType, metadata), RequestBody.fromFile(source));
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType, Map<String, String> metadata) {
+        s3Client.putObject(putRequest(key, contentType, metadata), RequestBody.fromInputStream(content, size));
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Path source, String contentType, Map<String, String> metadata) {
+        return s3AsyncClient.putObject(putRequest(key, contentType, metadata), AsyncRequestBody.fromFile(source))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public Optional<StoredObjectInfo> head(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+            long size = head.contentLength() != null ? head.contentLength() : 0L;
+            return Optional.of(new StoredObjectInfo(key, size, head.contentType(), head.metadata()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key) {
+        return s3Client.getObject(GetObjectRequest.builder().bucket(bucketName).key(key).build());
+    }
+
+    @Override
+    public long transferTo(String key, WritableByteChannel target) throws IOException {
+        try (InputStream input = openStream(key)) {
+            OutputStream output = Channels.newOutputStream(target);
+            return input.transferTo(output);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(key).build());
+    }
+
+    @Override
+    public int deleteAll(List<String> keys) {
+        int deleted = 0;
+
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(delete -> delete.objects(objects).quiet(true))
+                    .build();
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+            if (response.hasErrors() && !response.errors().isEmpty()) {
+                throw new IllegalStateException("Failed to delete " + response.errors().size()
+                        + " files from S3, first error: " + response.errors().get(0).message());
+            }
+
+            deleted += objects.size();
+        }
+        return deleted;
+    }
+
+    @Override
+    public String url(String key) {
+        if (hasCustomEndpoint()) {
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucketName, key);
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        String path = URI.create(url).getPath();
+        path = path.startsWith("/") ? path.substring(1) : path;
+        if (hasCustomEndpoint() && path.startsWith(bucketName + "/")) {
+            path = path.substring(bucketName.length() + 1);
+        }
+        return path;
+    }
+
+    @Override
+    public Optional<PresignedUpload> presignUpload(String key, String contentType, long size,
+                                                   Map<String, String> metadata, Duration expiration) {
+        PutObjectRequest putRequest = putRequest(key, contentType, metadata).toBuilder()
+                .contentLength(size)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest -> presignRequest
+                .signatureDuration(expiration)
+                .putObjectRequest(putRequest));
+
+        Map<String, String> requiredHeaders = new HashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host")) {
+                requiredHeaders.put(name, String.join(",", values));
+            }
+        });
+
+        return Optional.of(new PresignedUpload(key, presigned.url().toString(), requiredHeaders,
+                presigned.expiration()));
+    }
+
+    @Override
+    public PresignedDownload presignDownload(String key, Duration expiration) {
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignRequest -> presignRequest
+                .signatureDuration(expiration)
+                .getObjectRequest(getRequest -> getRequest.bucket(bucketName).key(key)));
+
+        return new PresignedDownload(key, presigned.url().toString(), presigned.expiration());
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType, Map<String, String> metadata) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .metadata(metadata)
+                .build();
+    }
+
+    private boolean hasCustomEndpoint() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+}
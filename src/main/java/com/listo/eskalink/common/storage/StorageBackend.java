@@ -0,0 +1,60 @@
+package com.listo.eskalink.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Object storage used for uploaded files. Keys are slash-separated relative paths such as
+ * {@code resumes/<uuid>.pdf}; implementations are selected with {@code app.storage.backend}.
+ */
+public interface StorageBackend {
+
+    void put(String key, Path source, String contentType, Map<String, String> metadata) throws IOException;
+
+    void put(String key, InputStream content, long size, String contentType, Map<String, String> metadata) throws IOException;
+
+    /**
+     * Stores the file without blocking the caller where the backend has non-blocking I/O. Backends without it
+     * store the file on the calling thread and return a completed future.
+     */
+    CompletableFuture<Void> putAsync(String key, Path source, String contentType, Map<String, String> metadata);
+
+    Optional<StoredObjectInfo> head(String key);
+
+    InputStream openStream(String key) throws IOException;
+
+    /**
+     * Writes the object to {@code target}, letting the kernel move the bytes where the backend stores files
+     * locally. Returns the number of bytes written.
+     */
+    long transferTo(String key, WritableByteChannel target) throws IOException;
+
+    void delete(String key);
+
+    int deleteAll(List<String> keys);
+
+    String url(String key);
+
+    String keyFromUrl(String url);
+
+    /**
+     * Returns a time-limited URL the client can upload the object to directly, or empty when the backend does
+     * not support direct uploads.
+     */
+    default Optional<PresignedUpload> presignUpload(String key, String contentType, long size,
+                                                    Map<String, String> metadata, Duration expiration) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a time-limited URL for reading the object.
+     */
+    PresignedDownload presignDownload(String key, Duration expiration);
+}
@@ -0,0 +1,7 @@
+package com.listo.eskalink.common.storage;
+
+public class StorageException extends RuntimeException {
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
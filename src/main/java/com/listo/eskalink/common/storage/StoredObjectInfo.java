@@ -0,0 +1,6 @@
+package com.listo.eskalink.common.storage;
+
+import java.util.Map;
+
+public record StoredObjectInfo(String key, long size, String contentType, Map<String, String> metadata) {
+}
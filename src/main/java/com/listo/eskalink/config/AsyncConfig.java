@@ -1,8 +1,10 @@
 package com.listo.eskalink.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -23,4 +25,46 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "resumeUploadExecutor")
+    public Executor resumeUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("resume-upload-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "textExtractionExecutor")
+    public Executor textExtractionExecutor(@Value("${app.text-extraction.pool-size}") int poolSize,
+                                           @Value("${app.text-extraction.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("text-extraction-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "resumeDownloadExecutor")
+    public Executor resumeDownloadExecutor(@Value("${app.resume-archive.pool-size}") int poolSize,
+                                           @Value("${app.resume-archive.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("resume-download-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "statusStreamExecutor")
+    public Executor statusStreamExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("status-stream-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
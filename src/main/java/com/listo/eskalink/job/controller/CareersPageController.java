@@ -0,0 +1,56 @@
+package com.listo.eskalink.job.controller;
+
+import com.listo.eskalink.common.dto.BaseResponse;
+import com.listo.eskalink.job.dto.CareersPageDto;
+import com.listo.eskalink.job.service.CareersPageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/companies")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Careers", description = "Public company careers page endpoints")
+public class CareersPageController {
+
+    private final CareersPageService careersPageService;
+
+    @Value("${app.careers-page.max-age-seconds}")
+    private long maxAgeSeconds;
+
+    @GetMapping("/{companyId}/jobs")
+    @Operation(summary = "Company Careers Page", description = "Get the open jobs of a company (public, cacheable)")
+    public ResponseEntity<BaseResponse<CareersPageDto>> getCareersPage(
+            @Parameter(description = "Company ID", required = true) @PathVariable UUID companyId,
+            WebRequest webRequest) {
+
+        CareersPageService.CareersPageSnapshot snapshot = careersPageService.getCareersPage(companyId);
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .eTag(snapshot.etag())
+                    .build();
+        }
+
+        BaseResponse<CareersPageDto> response = BaseResponse.success("Careers page retrieved successfully", snapshot.page());
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(snapshot.etag())
+                .body(response);
+    }
+}
@@ -5,6 +5,7 @@ import com.listo.eskalink.common.dto.BaseResponse;
 import com.listo.eskalink.common.dto.PaginatedResponse;
 import com.listo.eskalink.job.dto.*;
 import com.listo.eskalink.job.service.JobService;
+import com.listo.eskalink.job.service.SearchQueryLogService;
 import com.listo.eskalink.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +32,7 @@ import java.util.UUID;
 public class JobController {
 
     private final JobService jobService;
+    private final SearchQueryLogService searchQueryLogService;
 
     @PostMapping
     @PreAuthorize("hasRole('COMPANY')")
@@ -81,6 +83,21 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{jobId}/deletion")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Job Deletion Progress", description = "Get the purge progress of a deleted job (Company only)")
+    public ResponseEntity<BaseResponse<JobDeletionDto>> getJobDeletionStatus(
+            @Parameter(description = "Job ID", required = true) @PathVariable UUID jobId,
+            Authentication authentication) {
+
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        JobDeletionDto deletionDto = jobService.getJobDeletionStatus(jobId, userDetails.getUserId());
+        BaseResponse<JobDeletionDto> response = BaseResponse.success("Job deletion status retrieved successfully", deletionDto);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/search")
     @PreAuthorize("hasRole('APPLICANT')")
     @Operation(summary = "Browse Jobs", description = "Search and browse available job postings (Applicant only)")
@@ -115,6 +132,19 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/search/report")
+    @PreAuthorize("hasRole('COMPANY')")
+    @Operation(summary = "Search Query Report", description = "Top, zero-result and slowest job search queries")
+    public ResponseEntity<BaseResponse<SearchQueryReportDto>> getSearchQueryReport(
+            @Parameter(description = "Report window in days (default: 7)") @RequestParam(defaultValue = "7") Integer days,
+            @Parameter(description = "Entries per list (default: 20)") @RequestParam(defaultValue = "20") Integer limit) {
+
+        SearchQueryReportDto report = searchQueryLogService.getReport(days, limit);
+        BaseResponse<SearchQueryReportDto> response = BaseResponse.success("Search query report retrieved successfully", report);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{jobId}")
     @Operation(summary = "Get Job Details", description = "Get detailed information about a specific job")
     public ResponseEntity<BaseResponse<JobDto>> getJobDetails(
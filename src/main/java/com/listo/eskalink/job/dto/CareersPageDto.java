@@ -0,0 +1,15 @@
+package com.listo.eskalink.job.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class CareersPageDto {
+    private UUID companyId;
+    private String companyName;
+    private List<JobListDto> jobs;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,19 @@
+package com.listo.eskalink.job.dto;
+
+import com.listo.eskalink.job.enums.JobDeletionStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class JobDeletionDto {
+    private UUID jobId;
+    private JobDeletionStatus status;
+    private Long applicationsDeleted;
+    private Long resumesDeleted;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+}
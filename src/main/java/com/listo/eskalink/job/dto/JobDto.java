@@ -17,4 +17,5 @@ public class JobDto {
     private UUID companyId;
     private LocalDateTime createdAt;
     private Long applicationCount;
+    private Long version;
 }
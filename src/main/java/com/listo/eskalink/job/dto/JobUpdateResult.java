@@ -0,0 +1,26 @@
+package com.listo.eskalink.job.dto;
+
+import com.listo.eskalink.job.enums.JobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface JobUpdateResult {
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getLocation();
+
+    JobStatus getStatus();
+
+    String getCompanyName();
+
+    UUID getCompanyId();
+
+    LocalDateTime getCreatedAt();
+
+    Long getVersion();
+}
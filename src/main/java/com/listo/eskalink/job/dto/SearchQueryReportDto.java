@@ -0,0 +1,14 @@
+package com.listo.eskalink.job.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class SearchQueryReportDto {
+    private LocalDateTime since;
+    private List<SearchQueryStatDto> topQueries;
+    private List<SearchQueryStatDto> zeroResultQueries;
+    private List<SearchQueryStatDto> slowestQueries;
+}
@@ -0,0 +1,16 @@
+package com.listo.eskalink.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchQueryStatDto {
+    private String queryKey;
+    private Long searchCount;
+    private Double averageResultCount;
+    private Double averageLatencyMs;
+    private Long maxLatencyMs;
+}
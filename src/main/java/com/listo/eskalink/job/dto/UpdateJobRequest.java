@@ -1,6 +1,7 @@
 package com.listo.eskalink.job.dto;
 
 import com.listo.eskalink.job.enums.JobStatus;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -16,4 +17,9 @@ public class UpdateJobRequest {
     private String location;
 
     private JobStatus status;
+
+    @NotNull(message = "Version is required")
+    private Long version;
+
+    private Boolean rejectPendingApplications;
 }
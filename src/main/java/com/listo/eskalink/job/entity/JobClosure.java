@@ -0,0 +1,48 @@
+package com.listo.eskalink.job.entity;
+
+import com.listo.eskalink.job.enums.JobClosureStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "job_closures",
+        indexes = @Index(name = "idx_job_closures_status", columnList = "status, updated_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobClosure {
+
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobClosureStatus status = JobClosureStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "applications_rejected", nullable = false)
+    private Long applicationsRejected = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
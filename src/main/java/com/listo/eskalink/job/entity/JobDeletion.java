@@ -0,0 +1,57 @@
+package com.listo.eskalink.job.entity;
+
+import com.listo.eskalink.job.enums.JobDeletionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "job_deletions",
+        indexes = @Index(name = "idx_job_deletions_status", columnList = "status, updated_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobDeletion {
+
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobDeletionStatus status = JobDeletionStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "applications_deleted", nullable = false)
+    private Long applicationsDeleted = 0L;
+
+    @Builder.Default
+    @Column(name = "resumes_deleted", nullable = false)
+    private Long resumesDeleted = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "requested_at", nullable = false, updatable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
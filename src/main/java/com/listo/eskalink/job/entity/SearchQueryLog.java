@@ -0,0 +1,46 @@
+package com.listo.eskalink.job.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "search_query_logs",
+        indexes = {
+                @Index(name = "idx_search_query_logs_searched_at", columnList = "searched_at"),
+                @Index(name = "idx_search_query_logs_query_key", columnList = "query_key, searched_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchQueryLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "query_key", nullable = false, length = 400)
+    private String queryKey;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 100)
+    private String location;
+
+    @Column(name = "company_name", length = 100)
+    private String companyName;
+
+    @Column(name = "result_count", nullable = false)
+    private Long resultCount;
+
+    @Column(name = "latency_ms", nullable = false)
+    private Long latencyMs;
+
+    @Column(name = "searched_at", nullable = false)
+    private LocalDateTime searchedAt;
+}
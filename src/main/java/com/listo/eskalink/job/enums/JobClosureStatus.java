@@ -0,0 +1,5 @@
+package com.listo.eskalink.job.enums;
+
+public enum JobClosureStatus {
+    PENDING, IN_PROGRESS, COMPLETED, FAILED
+}
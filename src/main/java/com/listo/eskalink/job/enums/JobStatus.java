@@ -1,5 +1,8 @@
 package com.listo.eskalink.job.enums;
 
+import java.util.Arrays;
+import java.util.List;
+
 public enum JobStatus {
     DRAFT, OPEN, CLOSED;
 
@@ -10,4 +13,10 @@ public enum JobStatus {
             case CLOSED -> false;
         };
     }
+
+    public static List<JobStatus> allowedSourcesFor(JobStatus target) {
+        return Arrays.stream(values())
+                .filter(source -> source.canTransitionTo(target))
+                .toList();
+    }
 }
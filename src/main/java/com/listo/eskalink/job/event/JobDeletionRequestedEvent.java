@@ -0,0 +1,6 @@
+package com.listo.eskalink.job.event;
+
+import java.util.UUID;
+
+public record JobDeletionRequestedEvent(UUID jobId) {
+}
@@ -2,6 +2,7 @@ package com.listo.eskalink.job.mapper;
 
 import com.listo.eskalink.job.dto.*;
 import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.entity.JobDeletion;
 import org.mapstruct.*;
 
 @Mapper(componentModel = "spring")
@@ -11,6 +12,8 @@ public interface JobMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     Job createJobRequestToJob(CreateJobRequest request);
 
     @Mapping(source = "createdBy.name", target = "companyName")
@@ -18,6 +21,9 @@ public interface JobMapper {
     @Mapping(target = "applicationCount", ignore = true)
     JobDto jobToJobDto(Job job);
 
+    @Mapping(target = "applicationCount", ignore = true)
+    JobDto jobUpdateResultToJobDto(JobUpdateResult result);
+
     @Mapping(source = "createdBy.name", target = "companyName")
     JobListDto jobToJobListDto(Job job);
 
@@ -26,5 +32,9 @@ public interface JobMapper {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     void updateJobFromRequest(UpdateJobRequest request, @MappingTarget Job job);
+
+    JobDeletionDto jobDeletionToJobDeletionDto(JobDeletion deletion);
 }
@@ -0,0 +1,66 @@
+package com.listo.eskalink.job.repository;
+
+import com.listo.eskalink.job.entity.JobClosure;
+import com.listo.eskalink.job.enums.JobClosureStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobClosureRepository extends JpaRepository<JobClosure, UUID> {
+
+    /**
+     * Records a closure sweep for the job, restarting it when the job was closed before.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_closures (job_id, status, applications_rejected, attempts, requested_at, " +
+            "updated_at) VALUES (:jobId, 'PENDING', 0, 0, :now, :now) " +
+            "ON CONFLICT (job_id) DO UPDATE SET status = 'PENDING', attempts = 0, last_error = NULL, " +
+            "requested_at = :now, updated_at = :now, completed_at = NULL",
+            nativeQuery = true)
+    int request(@Param("jobId") UUID jobId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT c.jobId FROM JobClosure c WHERE " +
+            "(c.status = com.listo.eskalink.job.enums.JobClosureStatus.PENDING) OR " +
+            "(c.status = com.listo.eskalink.job.enums.JobClosureStatus.FAILED AND c.attempts < :maxAttempts) OR " +
+            "(c.status = com.listo.eskalink.job.enums.JobClosureStatus.IN_PROGRESS AND c.updatedAt < :staleBefore) " +
+            "ORDER BY c.updatedAt")
+    List<UUID> findResumableJobIds(@Param("maxAttempts") int maxAttempts,
+                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                   Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE JobClosure c SET c.status = com.listo.eskalink.job.enums.JobClosureStatus.IN_PROGRESS, " +
+            "c.attempts = c.attempts + 1, c.updatedAt = :now WHERE c.jobId = :jobId AND (" +
+            "c.status = com.listo.eskalink.job.enums.JobClosureStatus.PENDING OR " +
+            "(c.status = com.listo.eskalink.job.enums.JobClosureStatus.FAILED AND c.attempts < :maxAttempts) OR " +
+            "(c.status = com.listo.eskalink.job.enums.JobClosureStatus.IN_PROGRESS AND c.updatedAt < :staleBefore))")
+    int claim(@Param("jobId") UUID jobId,
+              @Param("now") LocalDateTime now,
+              @Param("maxAttempts") int maxAttempts,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE JobClosure c SET c.applicationsRejected = c.applicationsRejected + :rejected, " +
+            "c.status = :status, c.attempts = 0, c.lastError = NULL, c.updatedAt = :now, " +
+            "c.completedAt = CASE WHEN :status = com.listo.eskalink.job.enums.JobClosureStatus.COMPLETED " +
+            "THEN :now ELSE c.completedAt END WHERE c.jobId = :jobId")
+    int recordProgress(@Param("jobId") UUID jobId,
+                       @Param("rejected") long rejected,
+                       @Param("status") JobClosureStatus status,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE JobClosure c SET c.status = com.listo.eskalink.job.enums.JobClosureStatus.FAILED, " +
+            "c.lastError = :lastError, c.updatedAt = :now WHERE c.jobId = :jobId")
+    int recordFailure(@Param("jobId") UUID jobId,
+                      @Param("lastError") String lastError,
+                      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,58 @@
+package com.listo.eskalink.job.repository;
+
+import com.listo.eskalink.job.entity.JobDeletion;
+import com.listo.eskalink.job.enums.JobDeletionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JobDeletionRepository extends JpaRepository<JobDeletion, UUID> {
+
+    Optional<JobDeletion> findByJobIdAndCompanyId(UUID jobId, UUID companyId);
+
+    @Query("SELECT d.jobId FROM JobDeletion d WHERE " +
+            "(d.status = com.listo.eskalink.job.enums.JobDeletionStatus.PENDING) OR " +
+            "(d.status = com.listo.eskalink.job.enums.JobDeletionStatus.FAILED AND d.attempts < :maxAttempts) OR " +
+            "(d.status = com.listo.eskalink.job.enums.JobDeletionStatus.IN_PROGRESS AND d.updatedAt < :staleBefore) " +
+            "ORDER BY d.updatedAt")
+    List<UUID> findResumableJobIds(@Param("maxAttempts") int maxAttempts,
+                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                   Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE JobDeletion d SET d.status = com.listo.eskalink.job.enums.JobDeletionStatus.IN_PROGRESS, " +
+            "d.attempts = d.attempts + 1, d.updatedAt = :now WHERE d.jobId = :jobId AND (" +
+            "d.status = com.listo.eskalink.job.enums.JobDeletionStatus.PENDING OR " +
+            "(d.status = com.listo.eskalink.job.enums.JobDeletionStatus.FAILED AND d.attempts < :maxAttempts) OR " +
+            "(d.status = com.listo.eskalink.job.enums.JobDeletionStatus.IN_PROGRESS AND d.updatedAt < :staleBefore))")
+    int claim(@Param("jobId") UUID jobId,
+              @Param("now") LocalDateTime now,
+              @Param("maxAttempts") int maxAttempts,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE JobDeletion d SET d.applicationsDeleted = d.applicationsDeleted + :applications, " +
+            "d.resumesDeleted = d.resumesDeleted + :resumes, d.updatedAt = :now WHERE d.jobId = :jobId")
+    int recordProgress(@Param("jobId") UUID jobId,
+                       @Param("applications") long applications,
+                       @Param("resumes") long resumes,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE JobDeletion d SET d.status = :status, d.lastError = :lastError, d.updatedAt = :now, " +
+            "d.completedAt = CASE WHEN :status = com.listo.eskalink.job.enums.JobDeletionStatus.COMPLETED " +
+            "THEN :now ELSE d.completedAt END WHERE d.jobId = :jobId")
+    int updateStatus(@Param("jobId") UUID jobId,
+                     @Param("status") JobDeletionStatus status,
+                     @Param("lastError") String lastError,
+                     @Param("now") LocalDateTime now);
+}
@@ -1,15 +1,19 @@
 package com.listo.eskalink.job.repository;
 
+import com.listo.eskalink.job.dto.JobUpdateResult;
 import com.listo.eskalink.job.entity.Job;
 import com.listo.eskalink.job.enums.JobStatus;
 import com.listo.eskalink.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,4 +37,49 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
     Long countApplicationsByJobId(@Param("jobId") UUID jobId);
 
     Optional<Job> findByIdAndCreatedBy(UUID id, User createdBy);
+
+    @Query("SELECT j FROM Job j JOIN FETCH j.createdBy c WHERE c.id = :companyId AND j.status = :status " +
+            "ORDER BY j.createdAt DESC")
+    List<Job> findByCompanyIdAndStatusWithCompany(@Param("companyId") UUID companyId,
+                                                  @Param("status") JobStatus status);
+
+    Optional<Job> findByIdAndCreatedById(UUID id, UUID createdById);
+
+    @Query(value = "WITH updated AS (" +
+            "UPDATE jobs SET " +
+            "title = COALESCE(CAST(:title AS varchar), title), " +
+            "description = COALESCE(CAST(:description AS varchar), description), " +
+            "location = COALESCE(CAST(:location AS varchar), location), " +
+            "status = COALESCE(CAST(:status AS varchar), status), " +
+            "version = version + 1, " +
+            "updated_at = LOCALTIMESTAMP " +
+            "WHERE id = :jobId AND created_by = :companyId AND deleted_at IS NULL " +
+            "AND status IN (:sourceStatuses) " +
+            "AND version = :version " +
+            "RETURNING id, title, description, location, status, created_by, created_at, version) " +
+            "SELECT u.id AS \"id\", u.title AS \"title\", u.description AS \"description\", " +
+            "u.location AS \"location\", u.status AS \"status\", u.created_by AS \"companyId\", " +
+            "c.name AS \"companyName\", u.created_at AS \"createdAt\", u.version AS \"version\" " +
+            "FROM updated u JOIN users c ON c.id = u.created_by",
+            nativeQuery = true)
+    Optional<JobUpdateResult> updateJobConditionally(@Param("jobId") UUID jobId,
+                                                     @Param("companyId") UUID companyId,
+                                                     @Param("title") String title,
+                                                     @Param("description") String description,
+                                                     @Param("location") String location,
+                                                     @Param("status") String status,
+                                                     @Param("sourceStatuses") List<String> sourceStatuses,
+                                                     @Param("version") Long version);
+
+    @Query("SELECT j FROM Job j WHERE j.id = :id AND j.deletedAt IS NULL")
+    Optional<Job> findActiveById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.deletedAt = :now, j.version = j.version + 1 " +
+            "WHERE j.id = :jobId AND j.createdBy.id = :companyId AND j.deletedAt IS NULL")
+    int softDelete(@Param("jobId") UUID jobId, @Param("companyId") UUID companyId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM jobs WHERE id = :jobId", nativeQuery = true)
+    int hardDeleteById(@Param("jobId") UUID jobId);
 }
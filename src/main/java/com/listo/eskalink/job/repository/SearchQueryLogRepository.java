@@ -0,0 +1,35 @@
+package com.listo.eskalink.job.repository;
+
+import com.listo.eskalink.job.dto.SearchQueryStatDto;
+import com.listo.eskalink.job.entity.SearchQueryLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SearchQueryLogRepository extends JpaRepository<SearchQueryLog, UUID> {
+
+    @Query("SELECT new com.listo.eskalink.job.dto.SearchQueryStatDto(" +
+            "l.queryKey, COUNT(l), AVG(l.resultCount), AVG(l.latencyMs), MAX(l.latencyMs)) " +
+            "FROM SearchQueryLog l WHERE l.searchedAt >= :since " +
+            "GROUP BY l.queryKey ORDER BY COUNT(l) DESC")
+    List<SearchQueryStatDto> findTopQueries(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("SELECT new com.listo.eskalink.job.dto.SearchQueryStatDto(" +
+            "l.queryKey, COUNT(l), AVG(l.resultCount), AVG(l.latencyMs), MAX(l.latencyMs)) " +
+            "FROM SearchQueryLog l WHERE l.searchedAt >= :since AND l.resultCount = 0 " +
+            "GROUP BY l.queryKey ORDER BY COUNT(l) DESC")
+    List<SearchQueryStatDto> findZeroResultQueries(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("SELECT new com.listo.eskalink.job.dto.SearchQueryStatDto(" +
+            "l.queryKey, COUNT(l), AVG(l.resultCount), AVG(l.latencyMs), MAX(l.latencyMs)) " +
+            "FROM SearchQueryLog l WHERE l.searchedAt >= :since " +
+            "GROUP BY l.queryKey ORDER BY AVG(l.latencyMs) DESC")
+    List<SearchQueryStatDto> findSlowestQueries(@Param("since") LocalDateTime since, Pageable pageable);
+}
@@ -0,0 +1,144 @@
+package com.listo.eskalink.job.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.listo.eskalink.common.exception.ResourceNotFoundException;
+import com.listo.eskalink.job.dto.CareersPageDto;
+import com.listo.eskalink.job.dto.JobListDto;
+import com.listo.eskalink.job.enums.JobStatus;
+import com.listo.eskalink.job.event.JobChangedEvent;
+import com.listo.eskalink.job.mapper.JobMapper;
+import com.listo.eskalink.job.repository.JobRepository;
+import com.listo.eskalink.user.entity.User;
+import com.listo.eskalink.user.enums.UserRole;
+import com.listo.eskalink.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves public careers pages from in-memory snapshots. A cached page is returned without touching the
+ * database; job changes bump the company's version, and a snapshot is only cached if no change happened
+ * while it was being built, so a slow build can never overwrite a newer page. The ETag is a SHA-256 digest of
+ * the page content, so it stays stable across restarts and nodes and never matches a different page.
+ */
+@Service
+@Slf4j
+public class CareersPageService {
+
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final JobMapper jobMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<UUID, CareersPageSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public record CareersPageSnapshot(CareersPageDto page, String etag) {
+    }
+
+    public CareersPageService(JobRepository jobRepository,
+                              UserRepository userRepository,
+                              JobMapper jobMapper,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.jobMapper = jobMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public CareersPageSnapshot getCareersPage(UUID companyId) {
+        CareersPageSnapshot snapshot = snapshots.get(companyId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long version = currentVersion(companyId);
+        snapshot = readOnlyTransaction.execute(status -> {
+            User company = userRepository.findById(companyId)
+                    .filter(user -> user.getRole() == UserRole.COMPANY)
+                    .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
+            return buildSnapshot(company.getId(), company.getName());
+        });
+        return store(companyId, version, snapshot);
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onJobChanged(JobChangedEvent event) {
+        long version = versions.computeIfAbsent(event.companyId(), id -> new AtomicLong()).incrementAndGet();
+        CareersPageSnapshot current = snapshots.get(event.companyId());
+        if (current == null) {
+            // Nobody has requested this page yet; it is built lazily on first read.
+            return;
+        }
+
+        try {
+            CareersPageSnapshot rebuilt = readOnlyTransaction.execute(status ->
+                    buildSnapshot(event.companyId(), current.page().getCompanyName()));
+            store(event.companyId(), version, rebuilt);
+            log.debug("Careers page snapshot rebuilt for company: {}", event.companyId());
+        } catch (Exception e) {
+            log.error("Failed to rebuild careers page for company: {} - Error: {}", event.companyId(), e.getMessage());
+            snapshots.remove(event.companyId());
+        }
+    }
+
+    /**
+     * Caches a snapshot built at the given version unless a job changed since, in which case the snapshot is
+     * still returned to its caller but the next read builds a fresh one.
+     */
+    private CareersPageSnapshot store(UUID companyId, long version, CareersPageSnapshot snapshot) {
+        snapshots.compute(companyId, (id, existing) ->
+                currentVersion(companyId) == version ? snapshot : existing);
+        return snapshot;
+    }
+
+    private long currentVersion(UUID companyId) {
+        AtomicLong version = versions.get(companyId);
+        return version != null ? version.get() : 0;
+    }
+
+    private CareersPageSnapshot buildSnapshot(UUID companyId, String companyName) {
+        List<JobListDto> jobs = jobRepository.findByCompanyIdAndStatusWithCompany(companyId, JobStatus.OPEN)
+                .stream()
+                .map(jobMapper::jobToJobListDto)
+                .toList();
+
+        CareersPageDto page = new CareersPageDto();
+        page.setCompanyId(companyId);
+        page.setCompanyName(companyName);
+        page.setJobs(jobs);
+
+        // Digested before generatedAt is set, so rebuilding an unchanged page keeps its ETag.
+        String etag = "\"" + digest(page) + "\"";
+        page.setGeneratedAt(LocalDateTime.now());
+        return new CareersPageSnapshot(page, etag);
+    }
+
+    private String digest(CareersPageDto page) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(page)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to digest careers page", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.listo.eskalink.job.service;
+
+import com.listo.eskalink.application.dto.ApplicationStatusChange;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.event.ApplicationStatusChangedEvent;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService.Transition;
+import com.listo.eskalink.job.enums.JobClosureStatus;
+import com.listo.eskalink.job.event.JobClosedEvent;
+import com.listo.eskalink.job.repository.JobClosureRepository;
+import com.listo.eskalink.user.service.EmailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rejects the pending applications of a job that was closed with the reject policy. Closures are recorded
+ * in {@code job_closures} and swept one chunk per run: each chunk is one set-based UPDATE committed together
+ * with the closure's progress, and its notifications go to the mail server as one batch. The remaining chunks
+ * are picked up by the scheduler, which throttles a very large job without holding a pooled thread and
+ * resumes sweeps that were interrupted by a restart.
+ */
+@Service
+@Slf4j
+public class JobClosureWorker {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final JobClosureRepository jobClosureRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EmailService emailService;
+    private final ApplicationStatusHistoryService statusHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.job-closure.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.job-closure.stale-after-ms}")
+    private long staleAfterMs;
+
+    public JobClosureWorker(JobClosureRepository jobClosureRepository,
+                            ApplicationRepository applicationRepository,
+                            EmailService emailService,
+                            ApplicationStatusHistoryService statusHistoryService,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager) {
+        this.jobClosureRepository = jobClosureRepository;
+        this.applicationRepository = applicationRepository;
+        this.emailService = emailService;
+        this.statusHistoryService = statusHistoryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onJobClosed(JobClosedEvent event) {
+        process(event.jobId());
+    }
+
+    public void resumePendingClosures() {
+        List<UUID> jobIds = jobClosureRepository.findResumableJobIds(
+                MAX_ATTEMPTS, staleBefore(), PageRequest.of(0, 20));
+
+        for (UUID jobId : jobIds) {
+            process(jobId);
+        }
+    }
+
+    /**
+     * Rejects the next chunk of the job's pending applications and returns its size. A full chunk leaves the
+     * closure pending for the next scheduled run.
+     */
+    public int process(UUID jobId) {
+        if (!running.add(jobId)) {
+            return 0;
+        }
+
+        try {
+            Integer claimed = transactionTemplate.execute(status ->
+                    jobClosureRepository.claim(jobId, LocalDateTime.now(), MAX_ATTEMPTS, staleBefore()));
+            if (claimed == null || claimed == 0) {
+                return 0;
+            }
+
+            List<ApplicationStatusChange> chunk = transactionTemplate.execute(status -> {
+                List<ApplicationStatusChange> rejected =
+                        applicationRepository.rejectPendingOfClosedJob(jobId, chunkSize);
+                JobClosureStatus next = rejected.size() == chunkSize
+                        ? JobClosureStatus.PENDING
+                        : JobClosureStatus.COMPLETED;
+                jobClosureRepository.recordProgress(jobId, rejected.size(), next, LocalDateTime.now());
+                return rejected;
+            });
+
+            if (!chunk.isEmpty()) {
+                notifyRejected(jobId, chunk);
+            }
+            if (chunk.size() < chunkSize) {
+                log.info("Finished rejecting pending applications of closed job: {}", jobId);
+            }
+            return chunk.size();
+        } catch (Exception e) {
+            log.error("Failed to reject applications of closed job: {} - Error: {}", jobId, e.getMessage());
+            String error = e.getMessage() != null && e.getMessage().length() > 500
+                    ? e.getMessage().substring(0, 500)
+                    : e.getMessage();
+            transactionTemplate.executeWithoutResult(status ->
+                    jobClosureRepository.recordFailure(jobId, error, LocalDateTime.now()));
+            return 0;
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void notifyRejected(UUID jobId, List<ApplicationStatusChange> chunk) {
+        statusHistoryService.record(chunk.stream()
+                .map(change -> new Transition(change.getApplicationId(), jobId,
+                        change.getPreviousStatus(), change.getPreviousStatusChangedAt(),
+                        ApplicationStatus.REJECTED, change.getChangedAt(), null))
+                .toList());
+        chunk.forEach(change -> eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                change.getApplicationId(), change.getApplicantId(), jobId, change.getJobTitle(),
+                ApplicationStatus.REJECTED, change.getChangedAt())));
+        emailService.sendApplicationStatusUpdates(chunk, ApplicationStatus.REJECTED);
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+    }
+}
@@ -0,0 +1,159 @@
+package com.listo.eskalink.job.service;
+
+import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.repository.ApplicationStatusHistoryRepository;
+import com.listo.eskalink.application.repository.ApplicationTextRepository;
+import com.listo.eskalink.application.repository.FunnelDailyCountRepository;
+import com.listo.eskalink.application.repository.FunnelDailyDurationRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.job.enums.JobDeletionStatus;
+import com.listo.eskalink.job.event.JobDeletionRequestedEvent;
+import com.listo.eskalink.job.repository.JobDeletionRepository;
+import com.listo.eskalink.job.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Purges soft-deleted jobs in bounded chunks. Each chunk releases its resume references and deletes the
+ * application rows in one short transaction, so an interrupted run can be resumed without releasing a
+ * shared resume twice. Unreferenced resumes are removed from storage later by the stored-file purge.
+ */
+@Service
+@Slf4j
+public class JobDeletionWorker {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final JobRepository jobRepository;
+    private final JobDeletionRepository jobDeletionRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationTextRepository applicationTextRepository;
+    private final ApplicationStatusHistoryRepository statusHistoryRepository;
+    private final FunnelDailyCountRepository funnelDailyCountRepository;
+    private final FunnelDailyDurationRepository funnelDailyDurationRepository;
+    private final FileUploadService fileUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.job-deletion.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.job-deletion.stale-after-ms}")
+    private long staleAfterMs;
+
+    public JobDeletionWorker(JobRepository jobRepository,
+                             JobDeletionRepository jobDeletionRepository,
+                             ApplicationRepository applicationRepository,
+                             ApplicationTextRepository applicationTextRepository,
+                             ApplicationStatusHistoryRepository statusHistoryRepository,
+                             FunnelDailyCountRepository funnelDailyCountRepository,
+                             FunnelDailyDurationRepository funnelDailyDurationRepository,
+                             FileUploadService fileUploadService,
+                             PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.jobDeletionRepository = jobDeletionRepository;
+        this.applicationRepository = applicationRepository;
+        this.applicationTextRepository = applicationTextRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.funnelDailyCountRepository = funnelDailyCountRepository;
+        this.funnelDailyDurationRepository = funnelDailyDurationRepository;
+        this.fileUploadService = fileUploadService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onJobDeletionRequested(JobDeletionRequestedEvent event) {
+        process(event.jobId());
+    }
+
+    public void resumePendingDeletions() {
+        List<UUID> jobIds = jobDeletionRepository.findResumableJobIds(
+                MAX_ATTEMPTS, staleBefore(), PageRequest.of(0, 20));
+
+        for (UUID jobId : jobIds) {
+            process(jobId);
+        }
+    }
+
+    public void process(UUID jobId) {
+        if (!running.add(jobId)) {
+            return;
+        }
+
+        try {
+            Integer claimed = transactionTemplate.execute(status ->
+                    jobDeletionRepository.claim(jobId, LocalDateTime.now(), MAX_ATTEMPTS, staleBefore()));
+            if (claimed == null || claimed == 0) {
+                return;
+            }
+
+            log.info("Purging deleted job: {}", jobId);
+            boolean hasMore = true;
+            while (hasMore) {
+                hasMore = purgeNextChunk(jobId);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                funnelDailyCountRepository.deleteByJobId(jobId);
+                funnelDailyDurationRepository.deleteByJobId(jobId);
+                jobRepository.hardDeleteById(jobId);
+                jobDeletionRepository.updateStatus(jobId, JobDeletionStatus.COMPLETED, null, LocalDateTime.now());
+            });
+            log.info("Deleted job purged successfully: {}", jobId);
+        } catch (Exception e) {
+            log.error("Failed to purge deleted job: {} - Error: {}", jobId, e.getMessage());
+            String error = e.getMessage() != null && e.getMessage().length() > 500
+                    ? e.getMessage().substring(0, 500)
+                    : e.getMessage();
+            transactionTemplate.executeWithoutResult(status ->
+                    jobDeletionRepository.updateStatus(jobId, JobDeletionStatus.FAILED, error, LocalDateTime.now()));
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private boolean purgeNextChunk(UUID jobId) {
+        List<Application> chunk = applicationRepository.findByJobId(jobId, PageRequest.of(0, chunkSize));
+        if (chunk.isEmpty()) {
+            return false;
+        }
+
+        List<String> resumeLinks = chunk.stream()
+                .map(Application::getResumeLink)
+                .filter(Objects::nonNull)
+                .toList();
+        List<UUID> applicationIds = chunk.stream().map(Application::getId).toList();
+
+        Integer resumesDeleted = transactionTemplate.execute(status -> {
+            int resumesReleased = fileUploadService.deleteFiles(resumeLinks);
+            applicationTextRepository.deleteByApplicationIdIn(applicationIds);
+            statusHistoryRepository.deleteByApplicationIdIn(applicationIds);
+            int applicationsDeleted = applicationRepository.deleteByIdIn(applicationIds);
+            jobDeletionRepository.recordProgress(jobId, applicationsDeleted, resumesReleased, LocalDateTime.now());
+            return resumesReleased;
+        });
+
+        log.debug("Purged {} applications and {} resumes of job: {}", applicationIds.size(), resumesDeleted, jobId);
+        return chunk.size() == chunkSize;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+    }
+}
@@ -1,17 +1,27 @@
 package com.listo.eskalink.job.service;
 
 import com.listo.eskalink.common.dto.PageRequestDto;
+import com.listo.eskalink.common.exception.ConflictException;
 import com.listo.eskalink.common.exception.ResourceNotFoundException;
 import com.listo.eskalink.common.exception.UnauthorizedException;
 import com.listo.eskalink.common.exception.ValidationException;
 import com.listo.eskalink.job.dto.*;
 import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.entity.JobDeletion;
+import com.listo.eskalink.job.enums.JobDeletionStatus;
+import com.listo.eskalink.job.enums.JobStatus;
+import com.listo.eskalink.job.event.JobChangedEvent;
+import com.listo.eskalink.job.event.JobClosedEvent;
+import com.listo.eskalink.job.event.JobDeletionRequestedEvent;
 import com.listo.eskalink.job.mapper.JobMapper;
+import com.listo.eskalink.job.repository.JobClosureRepository;
+import com.listo.eskalink.job.repository.JobDeletionRepository;
 import com.listo.eskalink.job.repository.JobRepository;
 import com.listo.eskalink.user.entity.User;
 import com.listo.eskalink.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,8 +29,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -28,8 +40,12 @@ import java.util.UUID;
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final JobDeletionRepository jobDeletionRepository;
+    private final JobClosureRepository jobClosureRepository;
     private final UserRepository userRepository;
     private final JobMapper jobMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchQueryLogService searchQueryLogService;
 
     @Transactional
     public JobDto createJob(CreateJobRequest request, UUID userId) {
@@ -42,6 +58,7 @@ public class JobService {
         job.setCreatedBy(user);
 
         job = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(job.getId(), userId));
         log.info("Job created successfully with ID: {}", job.getId());
 
         return jobMapper.jobToJobDto(job);
@@ -51,35 +68,68 @@ public class JobService {
     public JobDto updateJob(UUID jobId, UpdateJobRequest request, UUID userId) {
         log.info("Updating job: {} by user: {}", jobId, userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (request.getVersion() == null) {
+            throw new ValidationException("Version is required");
+        }
 
-        Job job = jobRepository.findByIdAndCreatedBy(jobId, user)
-                .orElseThrow(() -> new UnauthorizedException("Unauthorized access"));
+        List<JobStatus> sourceStatuses = request.getStatus() != null
+                ? JobStatus.allowedSourcesFor(request.getStatus())
+                : List.of(JobStatus.values());
 
-        if (request.getStatus() != null && !job.getStatus().canTransitionTo(request.getStatus())) {
-            throw new ValidationException("Invalid status transition from " + job.getStatus() + " to " + request.getStatus());
+        if (sourceStatuses.isEmpty()) {
+            throw new ValidationException("Invalid status transition to " + request.getStatus());
         }
 
-        jobMapper.updateJobFromRequest(request, job);
-        job = jobRepository.save(job);
+        JobUpdateResult result = jobRepository.updateJobConditionally(
+                jobId,
+                userId,
+                request.getTitle(),
+                request.getDescription(),
+                request.getLocation(),
+                request.getStatus() != null ? request.getStatus().name() : null,
+                sourceStatuses.stream().map(JobStatus::name).toList(),
+                request.getVersion()
+        ).orElseThrow(() -> explainRejectedUpdate(jobId, request, userId));
+
+        eventPublisher.publishEvent(new JobChangedEvent(jobId, userId));
+        if (request.getStatus() == JobStatus.CLOSED && Boolean.TRUE.equals(request.getRejectPendingApplications())) {
+            jobClosureRepository.request(jobId, LocalDateTime.now());
+            eventPublisher.publishEvent(new JobClosedEvent(jobId));
+        }
 
-        log.info("Job updated successfully: {}", jobId);
-        return jobMapper.jobToJobDto(job);
+        log.info("Job updated successfully: {} (version {})", jobId, result.getVersion());
+        return jobMapper.jobUpdateResultToJobDto(result);
     }
 
     @Transactional
     public void deleteJob(UUID jobId, UUID userId) {
         log.info("Deleting job: {} by user: {}", jobId, userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.softDelete(jobId, userId, now) == 0) {
+            throw new UnauthorizedException("Unauthorized access");
+        }
 
-        Job job = jobRepository.findByIdAndCreatedBy(jobId, user)
-                .orElseThrow(() -> new UnauthorizedException("Unauthorized access"));
+        jobDeletionRepository.save(JobDeletion.builder()
+                .jobId(jobId)
+                .companyId(userId)
+                .status(JobDeletionStatus.PENDING)
+                .applicationsDeleted(0L)
+                .resumesDeleted(0L)
+                .attempts(0)
+                .updatedAt(now)
+                .build());
+
+        eventPublisher.publishEvent(new JobChangedEvent(jobId, userId));
+        eventPublisher.publishEvent(new JobDeletionRequestedEvent(jobId));
+        log.info("Job soft-deleted, purge scheduled: {}", jobId);
+    }
 
-        jobRepository.delete(job);
-        log.info("Job deleted successfully: {}", jobId);
+    public JobDeletionDto getJobDeletionStatus(UUID jobId, UUID userId) {
+        JobDeletion deletion = jobDeletionRepository.findByJobIdAndCompanyId(jobId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job deletion not found"));
+
+        return jobMapper.jobDeletionToJobDeletionDto(deletion);
     }
 
     public List<JobListDto> searchJobs(JobSearchRequest request) {
@@ -88,12 +138,15 @@ public class JobService {
 
         Pageable pageable = createPageable(request);
 
+        long startedAt = System.nanoTime();
         Page<Job> jobs = jobRepository.findJobsWithFilters(
                 request.getTitle(),
                 request.getLocation(),
                 request.getCompanyName(),
                 pageable
         );
+        searchQueryLogService.record(request, jobs.getTotalElements(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
 
         return jobs.getContent().stream()
                 .map(jobMapper::jobToJobListDto)
@@ -103,7 +156,7 @@ public class JobService {
     public JobDto getJobDetails(UUID jobId) {
         log.info("Getting job details for: {}", jobId);
 
-        Job job = jobRepository.findById(jobId)
+        Job job = jobRepository.findActiveById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         return jobMapper.jobToJobDto(job);
@@ -134,6 +187,18 @@ public class JobService {
                 .toList();
     }
 
+    private RuntimeException explainRejectedUpdate(UUID jobId, UpdateJobRequest request, UUID userId) {
+        Job job = jobRepository.findByIdAndCreatedById(jobId, userId).orElse(null);
+
+        if (job == null) {
+            return new UnauthorizedException("Unauthorized access");
+        }
+        if (!request.getVersion().equals(job.getVersion())) {
+            return new ConflictException("Job was modified by another request, please reload and try again");
+        }
+        return new ValidationException("Invalid status transition from " + job.getStatus() + " to " + request.getStatus());
+    }
+
     private Pageable createPageable(PageRequestDto request) {
         Sort sort = Sort.unsorted();
 
@@ -0,0 +1,111 @@
+package com.listo.eskalink.job.service;
+
+import com.listo.eskalink.common.concurrent.RingBuffer;
+import com.listo.eskalink.job.dto.JobSearchRequest;
+import com.listo.eskalink.job.dto.SearchQueryReportDto;
+import com.listo.eskalink.job.entity.SearchQueryLog;
+import com.listo.eskalink.job.repository.SearchQueryLogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@Slf4j
+public class SearchQueryLogService {
+
+    private static final int MAX_FILTER_LENGTH = 100;
+
+    private final SearchQueryLogRepository searchQueryLogRepository;
+    private final RingBuffer<SearchQueryLog> buffer;
+    private final int batchSize;
+
+    public SearchQueryLogService(SearchQueryLogRepository searchQueryLogRepository,
+                                 @Value("${app.search-log.buffer-capacity}") int bufferCapacity,
+                                 @Value("${app.search-log.batch-size}") int batchSize) {
+        this.searchQueryLogRepository = searchQueryLogRepository;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    public void record(JobSearchRequest request, long resultCount, long latencyMs) {
+        String title = normalize(request.getTitle());
+        String location = normalize(request.getLocation());
+        String companyName = normalize(request.getCompanyName());
+
+        SearchQueryLog entry = SearchQueryLog.builder()
+                .queryKey("title=" + nullToEmpty(title) + "|location=" + nullToEmpty(location)
+                        + "|company=" + nullToEmpty(companyName))
+                .title(title)
+                .location(location)
+                .companyName(companyName)
+                .resultCount(resultCount)
+                .latencyMs(latencyMs)
+                .searchedAt(LocalDateTime.now())
+                .build();
+
+        buffer.offer(entry);
+    }
+
+    public synchronized int flush() {
+        int total = 0;
+        List<SearchQueryLog> batch = new ArrayList<>(batchSize);
+
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                searchQueryLogRepository.saveAll(batch);
+                total += batch.size();
+            } catch (Exception e) {
+                log.error("Failed to persist {} search query log entries - Error: {}", batch.size(), e.getMessage());
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        long dropped = buffer.getAndResetDropped();
+        if (dropped > 0) {
+            log.warn("Search query log buffer full, dropped {} entries", dropped);
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public SearchQueryReportDto getReport(int days, int limit) {
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        Pageable pageable = PageRequest.of(0, limit);
+
+        SearchQueryReportDto report = new SearchQueryReportDto();
+        report.setSince(since);
+        report.setTopQueries(searchQueryLogRepository.findTopQueries(since, pageable));
+        report.setZeroResultQueries(searchQueryLogRepository.findZeroResultQueries(since, pageable));
+        report.setSlowestQueries(searchQueryLogRepository.findSlowestQueries(since, pageable));
+        return report;
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return normalized.length() > MAX_FILTER_LENGTH ? normalized.substring(0, MAX_FILTER_LENGTH) : normalized;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -1,14 +1,18 @@
 package com.listo.eskalink.user.service;
 
+import com.listo.eskalink.application.dto.ApplicationStatusChange;
 import com.listo.eskalink.application.enums.ApplicationStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -79,6 +83,35 @@ public class EmailService {
         }
     }
 
+    /**
+     * Sends one status update per change in a single {@link JavaMailSender#send(SimpleMailMessage...)} call so
+     * the whole batch goes over one connection to the mail server.
+     */
+    @Async
+    public void sendApplicationStatusUpdates(List<ApplicationStatusChange> changes, ApplicationStatus newStatus) {
+        SimpleMailMessage[] messages = changes.stream()
+                .map(change -> {
+                    SimpleMailMessage message = new SimpleMailMessage();
+                    message.setFrom(fromEmail);
+                    message.setTo(change.getApplicantEmail());
+                    message.setSubject("Application Status Update - " + change.getJobTitle());
+                    message.setText(buildStatusUpdateEmailBody(change.getApplicantName(), change.getJobTitle(),
+                            change.getCompanyName(), newStatus));
+                    return message;
+                })
+                .toArray(SimpleMailMessage[]::new);
+
+        try {
+            mailSender.send(messages);
+            log.info("Sent {} application status update emails with status: {}", messages.length, newStatus);
+        } catch (MailSendException e) {
+            log.error("Failed to send {} of {} status update emails - Error: {}",
+                    e.getFailedMessages().size(), messages.length, e.getMessage());
+        } catch (Exception e) {
+            log.error("Failed to send {} status update emails - Error: {}", messages.length, e.getMessage());
+        }
+    }
+
     private String buildVerificationEmailBody(String userName, String verificationLink) {
         return String.format("""
             Dear %s,
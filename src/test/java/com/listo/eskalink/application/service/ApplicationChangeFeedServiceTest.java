@@ -0,0 +1,132 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.CompanyApplicationDto;
+import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.dto.CursorPageDto;
+import com.listo.eskalink.common.exception.UnauthorizedException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.DownloadUrlService;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.repository.JobRepository;
+import com.listo.eskalink.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationChangeFeedServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationMapper applicationMapper;
+
+    @Mock
+    private DownloadUrlService downloadUrlService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationChangeFeedService changeFeedService;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID companyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new ApplicationChangeFeedService(applicationRepository, jobRepository, applicationMapper,
+                downloadUrlService, jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void cursorResumesAfterTheLastReturnedChange() {
+        ownJob(companyId);
+        Application application = Application.builder().id(UUID.randomUUID()).changeSeq(42L).build();
+        when(applicationRepository.findByJobIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(jobId, 0, PageRequest.of(0, 10)))
+                .thenReturn(List.of(application));
+        when(applicationMapper.applicationToCompanyApplicationDto(application)).thenReturn(new CompanyApplicationDto());
+
+        CursorPageDto<CompanyApplicationDto> first = changeFeedService.getJobChanges(jobId, null, 10, companyId);
+        changeFeedService.getJobChanges(jobId, first.getNextCursor(), 10, companyId);
+
+        assertThat(first.getItems()).hasSize(1);
+        verify(applicationRepository).findByJobIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(jobId, 42, PageRequest.of(0, 10));
+    }
+
+    @Test
+    void emptyPageKeepsTheCursor() {
+        ownJob(companyId);
+        when(applicationRepository.findByJobIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(any(), anyLong(), any()))
+                .thenReturn(List.of());
+
+        CursorPageDto<CompanyApplicationDto> page = changeFeedService.getJobChanges(jobId, "NDI", 10, companyId);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isEqualTo("NDI");
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        ownJob(companyId);
+
+        assertThatThrownBy(() -> changeFeedService.getJobChanges(jobId, "not-a-cursor", 10, companyId))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void rejectsOtherCompanies() {
+        ownJob(UUID.randomUUID());
+
+        assertThatThrownBy(() -> changeFeedService.getJobChanges(jobId, null, 10, companyId))
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void startupKeepsAnExistingTriggerAndBuildsTheIndexConcurrently() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(true, false);
+
+        changeFeedService.ensureChangeTracking();
+
+        verify(jdbcTemplate, never()).execute(contains("TRIGGER"));
+        verify(jdbcTemplate).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_change_pending"));
+    }
+
+    @Test
+    void startupCreatesAMissingTriggerWithoutDroppingIt() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false, false);
+
+        changeFeedService.ensureChangeTracking();
+
+        verify(jdbcTemplate).execute(startsWith("CREATE OR REPLACE TRIGGER trg_applications_changed"));
+        verify(jdbcTemplate, never()).execute(startsWith("DROP"));
+    }
+
+    private void ownJob(UUID ownerId) {
+        Job job = Job.builder().id(jobId).createdBy(User.builder().id(ownerId).build()).build();
+        when(jobRepository.findActiveById(jobId)).thenReturn(Optional.of(job));
+    }
+}
@@ -0,0 +1,97 @@
+package com.listo.eskalink.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.listo.eskalink.application.dto.ApplicationExportRow;
+import com.listo.eskalink.application.dto.CompanyApplicationDto;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ExportFormat;
+import com.listo.eskalink.application.enums.ResumeStatus;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.service.DownloadUrlService;
+import com.listo.eskalink.job.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationExportServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationMapper applicationMapper;
+
+    @Mock
+    private DownloadUrlService downloadUrlService;
+
+    private ApplicationExportService exportService;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID applicationId = UUID.randomUUID();
+    private final ApplicationExportRow row = mock(ApplicationExportRow.class);
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ApplicationExportService(applicationRepository, jobRepository, applicationMapper,
+                new ObjectMapper().registerModule(new JavaTimeModule()), downloadUrlService);
+
+        CompanyApplicationDto application = new CompanyApplicationDto();
+        application.setId(applicationId);
+        application.setApplicantName("=HYPERLINK(\"evil\")");
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setResumeStatus(ResumeStatus.UPLOADED);
+        application.setRelevanceScore(42.5);
+        application.setAppliedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        application.setCoverLetter("Hello, \"team\"\nThanks");
+        when(applicationMapper.applicationExportRowToCompanyApplicationDto(row)).thenReturn(application);
+    }
+
+    @Test
+    void exportWritesEscapedCsvAndClosesCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(applicationRepository.streamForExport(jobId, "APPLIED"))
+                .thenReturn(Stream.of(row).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = exportService.exportJobApplications(jobId, ApplicationStatus.APPLIED, ExportFormat.CSV, output);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(closed).isTrue();
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,applicantName,status,resumeStatus,relevanceScore,appliedAt,resumeLink,coverLetter\r\n" +
+                applicationId + ",\"'=HYPERLINK(\"\"evil\"\")\",APPLIED,UPLOADED,42.5,2024-01-02T03:04:05,," +
+                "\"Hello, \"\"team\"\"\nThanks\"\r\n");
+    }
+
+    @Test
+    void exportWritesOneJsonObjectPerLine() throws Exception {
+        when(applicationRepository.streamForExport(jobId, null)).thenReturn(Stream.of(row, row));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.exportJobApplications(jobId, null, ExportFormat.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(new ObjectMapper().readTree(lines[0]).get("id").asText()).isEqualTo(applicationId.toString());
+        assertThat(lines[0]).doesNotContain("'=");
+    }
+}
@@ -0,0 +1,76 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.InboxApplication;
+import com.listo.eskalink.application.dto.InboxApplicationDto;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.dto.CursorPageDto;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.DownloadUrlService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationInboxServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private DownloadUrlService downloadUrlService;
+
+    @InjectMocks
+    private ApplicationInboxService inboxService;
+
+    private final UUID companyId = UUID.randomUUID();
+
+    @Test
+    void getInboxReturnsCursorThatSeeksPastTheLastItem() {
+        InboxApplication newest = application(LocalDateTime.of(2024, 3, 2, 10, 0));
+        InboxApplication older = application(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123000));
+        when(applicationRepository.findInbox(companyId, 2)).thenReturn(List.of(newest, older));
+
+        CursorPageDto<InboxApplicationDto> firstPage = inboxService.getInbox(companyId, null, 2);
+
+        assertThat(firstPage.getItems()).extracting(InboxApplicationDto::getId)
+                .containsExactly(newest.getId(), older.getId());
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        when(applicationRepository.findInboxAfter(companyId, older.getAppliedAt(), older.getId(), 2))
+                .thenReturn(List.of());
+
+        CursorPageDto<InboxApplicationDto> secondPage = inboxService.getInbox(companyId, firstPage.getNextCursor(), 2);
+
+        assertThat(secondPage.getItems()).isEmpty();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getInboxRejectsMalformedCursor() {
+        assertThatThrownBy(() -> inboxService.getInbox(companyId, "not-a-cursor", 20))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    private InboxApplication application(LocalDateTime appliedAt) {
+        InboxApplication application = mock(InboxApplication.class);
+        UUID id = UUID.randomUUID();
+        when(application.getId()).thenReturn(id);
+        when(application.getAppliedAt()).thenReturn(appliedAt);
+        when(application.getStatus()).thenReturn(ApplicationStatus.APPLIED);
+        return application;
+    }
+}
@@ -0,0 +1,279 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.ApplicationDto;
+import com.listo.eskalink.application.dto.ApplicationInsertResult;
+import com.listo.eskalink.application.dto.ApplicationStatusChange;
+import com.listo.eskalink.application.dto.BulkStatusUpdateDto;
+import com.listo.eskalink.application.dto.BulkUpdateApplicationStatusRequest;
+import com.listo.eskalink.application.dto.CreateApplicationRequest;
+import com.listo.eskalink.application.dto.JobApplicationSearchRequest;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.enums.ResumeStatus;
+import com.listo.eskalink.application.event.ApplicationStatusChangedEvent;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.exception.UnauthorizedException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.FileUploadService.StagedFile;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.enums.JobStatus;
+import com.listo.eskalink.job.repository.JobRepository;
+import com.listo.eskalink.user.entity.User;
+import com.listo.eskalink.user.repository.UserRepository;
+import com.listo.eskalink.user.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationServiceTest {
+
+    private static final String RESUME_URL = "https://bucket.s3.region.amazonaws.com/resumes/resume.pdf";
+    private static final StagedFile STAGED_RESUME = new StagedFile(
+            Path.of("resume.pdf"), "resumes/resume.pdf", RESUME_URL, "application/pdf", 1);
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationMapper applicationMapper;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private ResumeUploadWorker resumeUploadWorker;
+
+    @Mock
+    private ResumeUploadService resumeUploadService;
+
+    @Mock
+    private ResumeLibraryService resumeLibraryService;
+
+    @Mock
+    private ApplicationStatusHistoryService statusHistoryService;
+
+    @Mock
+    private HiringFunnelService hiringFunnelService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ApplicationService applicationService;
+
+    private final UUID applicantId = UUID.randomUUID();
+    private final UUID jobId = UUID.randomUUID();
+    private CreateApplicationRequest request;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        request = new CreateApplicationRequest();
+        request.setJobId(jobId);
+        request.setCoverLetter("Hello");
+        request.setResume(new MockMultipartFile("resume", "resume.pdf", "application/pdf", new byte[]{1}));
+
+        lenient().when(fileUploadService.stageResume(any())).thenReturn(STAGED_RESUME);
+    }
+
+    @Test
+    void applyForJobMakesASingleRepositoryCallOnSuccess() throws Exception {
+        ApplicationInsertResult result = mock(ApplicationInsertResult.class);
+        when(result.getId()).thenReturn(UUID.randomUUID());
+        LocalDateTime appliedAt = LocalDateTime.now();
+        when(result.getAppliedAt()).thenReturn(appliedAt);
+        when(result.getJobTitle()).thenReturn("Backend Engineer");
+        when(result.getCompanyName()).thenReturn("Acme");
+        when(result.getCompanyEmail()).thenReturn("jobs@acme.test");
+        when(result.getApplicantName()).thenReturn("Jane Doe");
+        when(applicationRepository.insertIfJobOpen(any(), eq(applicantId), eq(jobId), eq(RESUME_URL), eq("PENDING"), eq("Hello")))
+                .thenReturn(Optional.of(result));
+
+        ApplicationDto applicationDto = applicationService.applyForJob(request, applicantId);
+
+        verify(applicationRepository, times(1))
+                .insertIfJobOpen(any(), eq(applicantId), eq(jobId), eq(RESUME_URL), eq("PENDING"), eq("Hello"));
+        verifyNoMoreInteractions(applicationRepository);
+        verifyNoInteractions(jobRepository, userRepository);
+
+        assertThat(applicationDto.getStatus()).isEqualTo(ApplicationStatus.APPLIED);
+        assertThat(applicationDto.getResumeStatus()).isEqualTo(ResumeStatus.PENDING);
+        verify(resumeUploadWorker).upload(applicationDto.getId(), STAGED_RESUME);
+        assertThat(applicationDto.getJobTitle()).isEqualTo("Backend Engineer");
+        verify(emailService).sendJobApplicationNotification("jobs@acme.test", "Acme", "Backend Engineer", "Jane Doe");
+        verify(hiringFunnelService).recordApplication(jobId, appliedAt);
+    }
+
+    @Test
+    void applyForJobUploadsInRequestWhenTheUploadQueueIsFull() throws Exception {
+        ApplicationInsertResult result = mock(ApplicationInsertResult.class);
+        UUID applicationId = UUID.randomUUID();
+        when(result.getId()).thenReturn(applicationId);
+        when(applicationRepository.insertIfJobOpen(any(), eq(applicantId), eq(jobId), eq(RESUME_URL), eq("PENDING"), eq("Hello")))
+                .thenReturn(Optional.of(result));
+        doThrow(new TaskRejectedException("queue full")).when(resumeUploadWorker).upload(applicationId, STAGED_RESUME);
+        when(resumeUploadWorker.uploadNow(applicationId, STAGED_RESUME)).thenReturn(ResumeStatus.FAILED);
+
+        ApplicationDto applicationDto = applicationService.applyForJob(request, applicantId);
+
+        assertThat(applicationDto.getId()).isEqualTo(applicationId);
+        assertThat(applicationDto.getResumeStatus()).isEqualTo(ResumeStatus.FAILED);
+    }
+
+    @Test
+    void searchJobApplicantsRejectsInvalidPaging() {
+        UUID companyId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> applicationService.searchJobApplicants(jobId, "java", 0, 10, companyId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Page number must be at least 1");
+        assertThatThrownBy(() -> applicationService.searchJobApplicants(jobId, "java", 1, 1000, companyId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Page size must be between 1 and 100");
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void applyForJobWithSavedResumeSkipsFileHandling() throws Exception {
+        UUID resumeId = UUID.randomUUID();
+        request.setResume(null);
+        request.setResumeId(resumeId);
+        ApplicationInsertResult result = mock(ApplicationInsertResult.class);
+        when(result.getId()).thenReturn(UUID.randomUUID());
+        when(resumeLibraryService.resolveResumeLink(resumeId, applicantId)).thenReturn(RESUME_URL);
+        when(applicationRepository.insertIfJobOpen(any(), eq(applicantId), eq(jobId), eq(RESUME_URL), eq("UPLOADED"), eq("Hello")))
+                .thenReturn(Optional.of(result));
+
+        ApplicationDto applicationDto = applicationService.applyForJob(request, applicantId);
+
+        assertThat(applicationDto.getResumeStatus()).isEqualTo(ResumeStatus.UPLOADED);
+        assertThat(applicationDto.getResumeLink()).isEqualTo(RESUME_URL);
+        verify(fileUploadService).retainFile(RESUME_URL);
+        verify(fileUploadService, never()).stageResume(any());
+        verifyNoInteractions(resumeUploadWorker);
+    }
+
+    @Test
+    void applyForJobTreatsConflictAsDuplicate() {
+        Job job = Job.builder().id(jobId).status(JobStatus.OPEN).build();
+        when(applicationRepository.insertIfJobOpen(any(), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(jobRepository.findActiveById(jobId)).thenReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> applicationService.applyForJob(request, applicantId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("You have already applied for this job");
+
+        verify(fileUploadService).retainFile(RESUME_URL);
+        verify(fileUploadService).discardStagedFile(STAGED_RESUME);
+        verify(fileUploadService).deleteFile(RESUME_URL);
+        verifyNoInteractions(emailService, resumeUploadWorker);
+    }
+
+    @Test
+    void applyForJobRejectsJobsThatAreNotOpen() {
+        Job job = Job.builder().id(jobId).status(JobStatus.CLOSED).build();
+        when(applicationRepository.insertIfJobOpen(any(), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(jobRepository.findActiveById(jobId)).thenReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> applicationService.applyForJob(request, applicantId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("This job is not accepting applications");
+    }
+
+    @Test
+    void bulkUpdateApplicationStatusAppliesOneUpdateAndBatchesEmails() {
+        UUID companyId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        BulkUpdateApplicationStatusRequest bulkRequest = new BulkUpdateApplicationStatusRequest();
+        bulkRequest.setApplicationIds(List.of(first, second, first));
+        bulkRequest.setStatus(ApplicationStatus.REJECTED);
+        ApplicationStatusChange change = mock(ApplicationStatusChange.class);
+        when(change.getApplicationId()).thenReturn(first);
+        when(applicationRepository.countByIdInAndJobCreatedById(Set.of(first, second), companyId)).thenReturn(2L);
+        when(applicationRepository.updateStatusForCompany(Set.of(first, second), companyId, "REJECTED"))
+                .thenReturn(List.of(change));
+
+        BulkStatusUpdateDto result = applicationService.bulkUpdateApplicationStatus(bulkRequest, companyId);
+
+        assertThat(result.getRequested()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUpdatedApplicationIds()).containsExactly(first);
+        verify(emailService).sendApplicationStatusUpdates(List.of(change), ApplicationStatus.REJECTED);
+        verify(statusHistoryService).record(argThat(transitions -> transitions.size() == 1
+                && transitions.get(0).applicationId().equals(first)
+                && transitions.get(0).toStatus() == ApplicationStatus.REJECTED));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof ApplicationStatusChangedEvent changed
+                        && changed.applicationId().equals(first)
+                        && changed.status() == ApplicationStatus.REJECTED));
+        verifyNoMoreInteractions(emailService);
+    }
+
+    @Test
+    void bulkUpdateApplicationStatusRejectsApplicationsOfOtherCompanies() {
+        UUID companyId = UUID.randomUUID();
+        BulkUpdateApplicationStatusRequest bulkRequest = new BulkUpdateApplicationStatusRequest();
+        bulkRequest.setApplicationIds(List.of(UUID.randomUUID(), UUID.randomUUID()));
+        bulkRequest.setStatus(ApplicationStatus.INTERVIEW);
+        when(applicationRepository.countByIdInAndJobCreatedById(any(), eq(companyId))).thenReturn(1L);
+
+        assertThatThrownBy(() -> applicationService.bulkUpdateApplicationStatus(bulkRequest, companyId))
+                .isInstanceOf(UnauthorizedException.class);
+
+        verify(applicationRepository, never()).updateStatusForCompany(any(), any(), any());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void getJobApplicationsRejectsInvertedDateRangeAndUnknownSortField() {
+        UUID companyId = UUID.randomUUID();
+        Job job = Job.builder().id(jobId).createdBy(User.builder().id(companyId).build()).build();
+        when(jobRepository.findActiveById(jobId)).thenReturn(Optional.of(job));
+
+        JobApplicationSearchRequest searchRequest = new JobApplicationSearchRequest();
+        searchRequest.setAppliedFrom(LocalDate.of(2024, 5, 2));
+        searchRequest.setAppliedTo(LocalDate.of(2024, 5, 1));
+        assertThatThrownBy(() -> applicationService.getJobApplications(jobId, searchRequest, companyId))
+                .isInstanceOf(ValidationException.class);
+
+        searchRequest.setAppliedTo(null);
+        searchRequest.setSortBy("resumeLink");
+        assertThatThrownBy(() -> applicationService.getJobApplications(jobId, searchRequest, companyId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid sort field: resumeLink");
+
+        verifyNoInteractions(applicationRepository);
+    }
+}
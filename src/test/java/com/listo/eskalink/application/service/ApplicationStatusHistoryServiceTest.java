@@ -0,0 +1,99 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.mapper.ApplicationMapper;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.repository.ApplicationStatusHistoryRepository;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService.Transition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationStatusHistoryServiceTest {
+
+    @Mock
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationMapper applicationMapper;
+
+    @Mock
+    private HiringFunnelService hiringFunnelService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ApplicationStatusHistoryService historyService;
+
+    private final Transition transition = new Transition(UUID.randomUUID(), UUID.randomUUID(),
+            ApplicationStatus.APPLIED, LocalDateTime.now().minusDays(1), ApplicationStatus.INTERVIEW,
+            LocalDateTime.now(), UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        historyService = new ApplicationStatusHistoryService(statusHistoryRepository, applicationRepository,
+                applicationMapper, hiringFunnelService, jdbcTemplate, 16, 10);
+        ReflectionTestUtils.setField(historyService, "recoveryWindowHours", 24L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void recordInsideTransactionIsOnlyQueuedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        historyService.record(List.of(transition));
+        assertThat(historyService.flush()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(historyService.flush()).isEqualTo(1);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void failedBatchTriggersRecoveryFromApplicationRows() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+        historyService.record(List.of(transition));
+
+        historyService.flush();
+
+        verify(statusHistoryRepository).recoverMissing(any(LocalDateTime.class));
+    }
+
+    @Test
+    void droppedEntriesTriggerRecovery() {
+        historyService = new ApplicationStatusHistoryService(statusHistoryRepository, applicationRepository,
+                applicationMapper, hiringFunnelService, jdbcTemplate, 2, 10);
+        ReflectionTestUtils.setField(historyService, "recoveryWindowHours", 24L);
+
+        historyService.record(List.of(transition, transition, transition));
+        historyService.flush();
+
+        verify(statusHistoryRepository).recoverMissing(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,56 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.event.ApplicationStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationStatusStreamServiceTest {
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final UUID applicantId = UUID.randomUUID();
+
+    private ApplicationStatusStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new ApplicationStatusStreamService(submitted::add);
+        ReflectionTestUtils.setField(streamService, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(streamService, "maxStreamsPerApplicant", 2);
+    }
+
+    @Test
+    void statusChangeIsOnlyFannedOutToTheApplicantsStreams() {
+        streamService.subscribe(applicantId);
+        streamService.subscribe(UUID.randomUUID());
+
+        streamService.onStatusChanged(event(applicantId));
+        assertThat(submitted).hasSize(1);
+
+        streamService.onStatusChanged(event(UUID.randomUUID()));
+        assertThat(submitted).hasSize(1);
+    }
+
+    @Test
+    void oldestStreamIsClosedBeyondThePerApplicantLimit() {
+        streamService.subscribe(applicantId);
+        streamService.subscribe(applicantId);
+        streamService.subscribe(applicantId);
+
+        assertThat(streamService.sendHeartbeats()).isEqualTo(2);
+        assertThat(submitted).hasSize(2);
+    }
+
+    private ApplicationStatusChangedEvent event(UUID applicant) {
+        return new ApplicationStatusChangedEvent(UUID.randomUUID(), applicant, UUID.randomUUID(), "Backend Engineer",
+                ApplicationStatus.INTERVIEW, LocalDateTime.now());
+    }
+}
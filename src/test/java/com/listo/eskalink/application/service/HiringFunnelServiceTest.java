@@ -0,0 +1,101 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.repository.FunnelDailyCountRepository;
+import com.listo.eskalink.application.repository.FunnelDailyDurationRepository;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService.Transition;
+import com.listo.eskalink.job.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HiringFunnelServiceTest {
+
+    @Mock
+    private FunnelDailyCountRepository countRepository;
+
+    @Mock
+    private FunnelDailyDurationRepository durationRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HiringFunnelService funnelService;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        funnelService = new HiringFunnelService(countRepository, durationRepository, jobRepository, jdbcTemplate,
+                transactionManager);
+        ReflectionTestUtils.setField(funnelService, "batchSize", 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesOneRowPerJobDayAndStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        funnelService.recordApplication(jobId, now);
+        funnelService.recordApplication(jobId, now);
+        funnelService.recordTransitions(List.of(new Transition(UUID.randomUUID(), jobId, ApplicationStatus.APPLIED,
+                now.minusSeconds(100), ApplicationStatus.REVIEWED, now, null)));
+
+        assertThat(funnelService.flush()).isEqualTo(3);
+
+        ArgumentCaptor<Collection<Map.Entry<?, Long>>> counts = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO funnel_daily_counts"), counts.capture(), eq(100), any());
+        assertThat(counts.getValue()).extracting(Map.Entry::getValue).containsExactlyInAnyOrder(2L, 1L);
+        assertThat(funnelService.flush()).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForTheNextFlush() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[0][]);
+        funnelService.recordApplication(jobId, LocalDateTime.now());
+
+        assertThat(funnelService.flush()).isZero();
+        assertThat(funnelService.flush()).isEqualTo(1);
+    }
+
+    @Test
+    void deltasOfCompactedDaysAreDiscarded() {
+        funnelService.recordApplication(jobId, LocalDateTime.now().minusDays(3));
+
+        assertThat(funnelService.flush()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void medianIsInterpolatedInsideTheMiddleBucket() {
+        assertThat(HiringFunnelService.bucketOf(0)).isZero();
+        assertThat(HiringFunnelService.bucketOf(1)).isZero();
+        assertThat(HiringFunnelService.bucketOf(8)).isEqualTo(3);
+        assertThat(HiringFunnelService.bucketOf(15)).isEqualTo(3);
+
+        SortedMap<Integer, Long> buckets = new TreeMap<>(Map.of(3, 1L, 4, 2L, 5, 1L));
+        assertThat(HiringFunnelService.estimateMedian(buckets, 4)).isEqualTo(24);
+    }
+}
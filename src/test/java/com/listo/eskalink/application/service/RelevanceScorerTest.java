@@ -0,0 +1,67 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.service.RelevanceScorer.JobCorpus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelevanceScorerTest {
+
+    private static final String TITLE = "Senior Java Developer";
+    private static final String DESCRIPTION = "Build Spring Boot services on PostgreSQL and Kafka. Java experience required.";
+
+    private RelevanceScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new RelevanceScorer();
+    }
+
+    @Test
+    void newCorpus_ShouldWeightTitleTermsAndDropStopWords() {
+        JobCorpus corpus = scorer.newCorpus(TITLE, DESCRIPTION);
+
+        assertThat(corpus.jobTerms()).containsEntry("java", 4).containsEntry("spring", 1);
+        assertThat(corpus.jobTerms()).doesNotContainKeys("on", "and");
+    }
+
+    @Test
+    void score_ShouldRankMatchingResumeAboveUnrelatedResume() {
+        JobCorpus corpus = scorer.newCorpus(TITLE, DESCRIPTION);
+        Map<String, Integer> matching = scorer.jobTermFrequencies(
+                "Java developer, five years of Spring Boot and PostgreSQL", corpus.jobTerms());
+        Map<String, Integer> unrelated = scorer.jobTermFrequencies(
+                "Pastry chef with a passion for sourdough and Java coffee", corpus.jobTerms());
+        corpus.addDocument(matching);
+        corpus.addDocument(unrelated);
+
+        assertThat(scorer.score(corpus, matching)).isGreaterThan(scorer.score(corpus, unrelated));
+        assertThat(scorer.score(corpus, matching)).isBetween(0.0, 100.0);
+    }
+
+    @Test
+    void score_ShouldReturnZero_WhenResumeSharesNoTerms() {
+        JobCorpus corpus = scorer.newCorpus(TITLE, DESCRIPTION);
+        Map<String, Integer> terms = scorer.jobTermFrequencies("Watercolour painting and gardening", corpus.jobTerms());
+
+        assertThat(terms).isEmpty();
+        assertThat(scorer.score(corpus, terms)).isZero();
+    }
+
+    @Test
+    void fingerprint_ShouldChange_WhenEditCollidesOnStringHashCode() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(scorer.fingerprint(TITLE, "Aa")).isNotEqualTo(scorer.fingerprint(TITLE, "BB"));
+        assertThat(scorer.fingerprint("Aa", DESCRIPTION)).isNotEqualTo(scorer.fingerprint("BB", DESCRIPTION));
+    }
+
+    @Test
+    void fingerprint_ShouldChange_WhenDescriptionChanges() {
+        assertThat(scorer.fingerprint(TITLE, DESCRIPTION))
+                .isEqualTo(scorer.newCorpus(TITLE, DESCRIPTION).fingerprint())
+                .isNotEqualTo(scorer.fingerprint(TITLE, DESCRIPTION + " Remote."));
+    }
+}
@@ -0,0 +1,94 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.ApplicationExportRow;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeArchiveServiceTest {
+
+    private static final String BASE_URL = "https://bucket.s3.region.amazonaws.com/resumes/";
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    private ResumeArchiveService archiveService;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new ResumeArchiveService(applicationRepository, fileUploadService, Runnable::run);
+        ReflectionTestUtils.setField(archiveService, "prefetch", 2);
+    }
+
+    @Test
+    void writeResumeArchiveStreamsEveryUploadedResumeAndReportsMissingOnes() throws Exception {
+        ApplicationExportRow first = row("Jane Doe", "a.pdf", "UPLOADED");
+        ApplicationExportRow pending = row("Pending Person", "b.pdf", "PENDING");
+        ApplicationExportRow missing = row("John/Smith", "c.docx", "UPLOADED");
+        ApplicationExportRow last = row("Ana", "d.pdf", "UPLOADED");
+        when(applicationRepository.streamForExport(jobId, null)).thenReturn(Stream.of(first, pending, missing, last));
+        when(fileUploadService.openFile(BASE_URL + "a.pdf")).thenReturn(content("first"));
+        when(fileUploadService.openFile(BASE_URL + "c.docx")).thenThrow(new FileNotFoundException("gone"));
+        when(fileUploadService.openFile(BASE_URL + "d.pdf")).thenReturn(content("last"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int written = archiveService.writeResumeArchive(jobId, null, output);
+
+        Map<String, String> entries = unzip(output.toByteArray());
+        assertThat(written).isEqualTo(2);
+        assertThat(entries).containsExactly(
+                Map.entry("Jane_Doe-" + first.getId() + ".pdf", "first"),
+                Map.entry("Ana-" + last.getId() + ".pdf", "last"),
+                Map.entry("missing-resumes.txt", missing.getId().toString()));
+        verify(fileUploadService, never()).openFile(BASE_URL + "b.pdf");
+    }
+
+    private ApplicationExportRow row(String applicantName, String file, String resumeStatus) {
+        ApplicationExportRow row = mock(ApplicationExportRow.class);
+        lenient().when(row.getId()).thenReturn(UUID.randomUUID());
+        lenient().when(row.getApplicantName()).thenReturn(applicantName);
+        lenient().when(row.getResumeLink()).thenReturn(BASE_URL + file);
+        lenient().when(row.getResumeStatus()).thenReturn(resumeStatus);
+        return row;
+    }
+
+    private ByteArrayInputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, String> unzip(byte[] archive) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,98 @@
+package com.listo.eskalink.application.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeTextExtractorTest {
+
+    private ResumeTextExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        extractor = new ResumeTextExtractor();
+        ReflectionTestUtils.setField(extractor, "maxChars", 1000);
+    }
+
+    @Test
+    void extractsTextFromPdf() throws Exception {
+        String text = extractor.extract(new ByteArrayInputStream(pdf("Senior Kotlin engineer")), "resumes/abc.pdf");
+
+        assertThat(text).isEqualTo("Senior Kotlin engineer");
+    }
+
+    @Test
+    void extractsParagraphsFromDocx() throws Exception {
+        String documentXml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>" +
+                "<w:p><w:r><w:t>Postgres</w:t></w:r><w:r><w:tab/><w:t>tuning</w:t></w:r></w:p>" +
+                "<w:p><w:r><w:t>Spring   Boot</w:t></w:r></w:p>" +
+                "</w:body></w:document>";
+
+        String text = extractor.extract(new ByteArrayInputStream(docx(documentXml)), "resumes/abc.docx");
+
+        assertThat(text).isEqualTo("Postgres tuning Spring Boot");
+    }
+
+    @Test
+    void rejectsDocxWithExternalEntities() throws Exception {
+        String documentXml = "<?xml version=\"1.0\"?><!DOCTYPE d [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>" +
+                "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">" +
+                "<w:p><w:r><w:t>&x;</w:t></w:r></w:p></w:document>";
+
+        assertThatThrownBy(() -> extractor.extract(new ByteArrayInputStream(docx(documentXml)), "resumes/abc.docx"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void normalizationStripsNullCharactersAndTruncates() {
+        ReflectionTestUtils.setField(extractor, "maxChars", 5);
+
+        assertThat(extractor.normalize("a\u0000b \n\t cdef")).isEqualTo("a b c");
+        assertThat(extractor.normalize(null)).isEmpty();
+    }
+
+    private byte[] pdf(String line) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                content.newLineAtOffset(72, 700);
+                content.showText(line);
+                content.endText();
+            }
+            document.save(output);
+            return output.toByteArray();
+        }
+    }
+
+    private byte[] docx(String documentXml) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(documentXml.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return output.toByteArray();
+    }
+}
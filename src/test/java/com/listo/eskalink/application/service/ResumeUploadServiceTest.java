@@ -0,0 +1,160 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.dto.CreateResumeUploadRequest;
+import com.listo.eskalink.application.dto.ResumeUploadDto;
+import com.listo.eskalink.application.entity.ResumeUpload;
+import com.listo.eskalink.application.repository.ResumeUploadRepository;
+import com.listo.eskalink.common.exception.ConflictException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.repository.StoredFileRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.LocalS3StandIn;
+import com.listo.eskalink.common.storage.S3StorageBackend;
+import com.listo.eskalink.common.storage.StorageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ResumeUploadServiceTest {
+
+    private static final String BUCKET = "resumes-test";
+
+    @TempDir
+    Path workingDirectory;
+
+    private LocalS3StandIn s3;
+    private S3StorageBackend storageBackend;
+    private StoredFileRepository storedFileRepository;
+    private ResumeUploadRepository resumeUploadRepository;
+    private ResumeUploadService resumeUploadService;
+
+    private final UUID applicantId = UUID.randomUUID();
+    private ResumeUpload stored;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3StandIn();
+        storageBackend = new S3StorageBackend("test", "test", "us-east-1", BUCKET, s3.endpoint());
+        storedFileRepository = mock(StoredFileRepository.class);
+
+        FileUploadService fileUploadService = new FileUploadService(storageBackend, storedFileRepository);
+        ReflectionTestUtils.setField(fileUploadService, "stagingDirectory", workingDirectory.resolve("staging").toString());
+
+        resumeUploadRepository = mock(ResumeUploadRepository.class);
+        when(resumeUploadRepository.save(any(ResumeUpload.class))).thenAnswer(invocation -> {
+            ResumeUpload upload = invocation.getArgument(0);
+            if (upload.getId() == null) {
+                upload.setId(UUID.randomUUID());
+            }
+            stored = upload;
+            return upload;
+        });
+        when(resumeUploadRepository.findByIdAndApplicantId(any(), eq(applicantId)))
+                .thenAnswer(invocation -> Optional.ofNullable(stored)
+                        .filter(upload -> upload.getId().equals(invocation.getArgument(0))));
+
+        resumeUploadService = new ResumeUploadService(resumeUploadRepository, fileUploadService);
+        ReflectionTestUtils.setField(resumeUploadService, "uploadDirectory", workingDirectory.resolve("uploads").toString());
+        ReflectionTestUtils.setField(resumeUploadService, "expirationMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageBackend.close();
+        s3.close();
+    }
+
+    @Test
+    void chunksAreAppendedAtOffsetsAndStoredOnCompletion() throws Exception {
+        byte[] content = "%PDF-1.7 uploaded over a flaky connection".getBytes();
+        ResumeUploadDto created = resumeUploadService.createUpload(request(content.length), applicantId);
+        UUID uploadId = created.getUploadId();
+
+        ResumeUploadDto afterFirst = resumeUploadService.appendChunk(uploadId, applicantId, 0, chunk(content, 0, 10));
+        assertThat(afterFirst.getOffset()).isEqualTo(10);
+        assertThat(afterFirst.isCompleted()).isFalse();
+        assertThat(resumeUploadService.getUpload(uploadId, applicantId).getOffset()).isEqualTo(10);
+
+        ResumeUploadDto completed = resumeUploadService.appendChunk(uploadId, applicantId, 10,
+                chunk(content, 10, content.length));
+
+        assertThat(completed.isCompleted()).isTrue();
+        assertThat(completed.getOffset()).isEqualTo(content.length);
+        String key = storageBackend.keyFromUrl(completed.getResumeLink());
+        assertThat(key).matches("resumes/[0-9a-f]{64}\\.pdf");
+        assertThat(s3.object(BUCKET, key).content()).isEqualTo(content);
+        verify(storedFileRepository).retain(eq(key), any());
+        assertThat(resumeUploadService.resolveCompletedUpload(uploadId, applicantId)).isEqualTo(completed.getResumeLink());
+    }
+
+    @Test
+    void failedCompletionIsRetriedWithAnEmptyChunkAtTheFinalOffset() throws Exception {
+        byte[] content = "%PDF-1.7 stored on the second try".getBytes();
+        UUID uploadId = resumeUploadService.createUpload(request(content.length), applicantId).getUploadId();
+        s3.failNextRequests(10);
+
+        assertThatThrownBy(() -> resumeUploadService.appendChunk(uploadId, applicantId, 0,
+                chunk(content, 0, content.length)))
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("offset " + content.length);
+        assertThat(resumeUploadService.getUpload(uploadId, applicantId).getOffset()).isEqualTo(content.length);
+
+        s3.failNextRequests(0);
+        ResumeUploadDto completed = resumeUploadService.appendChunk(uploadId, applicantId, content.length,
+                new ByteArrayInputStream(new byte[0]));
+
+        assertThat(completed.isCompleted()).isTrue();
+        assertThat(s3.object(BUCKET, storageBackend.keyFromUrl(completed.getResumeLink())).content())
+                .isEqualTo(content);
+    }
+
+    @Test
+    void chunkAtWrongOffsetIsRejected() throws Exception {
+        byte[] content = "%PDF-1.7 resume".getBytes();
+        UUID uploadId = resumeUploadService.createUpload(request(content.length), applicantId).getUploadId();
+        resumeUploadService.appendChunk(uploadId, applicantId, 0, chunk(content, 0, 5));
+
+        assertThatThrownBy(() -> resumeUploadService.appendChunk(uploadId, applicantId, 0, chunk(content, 0, 5)))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("current offset is 5");
+        assertThatThrownBy(() -> resumeUploadService.resolveCompletedUpload(uploadId, applicantId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Resume upload is not complete");
+    }
+
+    @Test
+    void chunkBeyondDeclaredLengthIsRejected() throws Exception {
+        UUID uploadId = resumeUploadService.createUpload(request(4), applicantId).getUploadId();
+
+        assertThatThrownBy(() -> resumeUploadService.appendChunk(uploadId, applicantId, 0,
+                new ByteArrayInputStream("%PDF-1.7".getBytes())))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Chunk exceeds the declared upload length");
+        verify(storedFileRepository, never()).retain(anyString(), any());
+    }
+
+    private CreateResumeUploadRequest request(long size) {
+        CreateResumeUploadRequest request = new CreateResumeUploadRequest();
+        request.setContentType("application/pdf");
+        request.setSize(size);
+        return request;
+    }
+
+    private ByteArrayInputStream chunk(byte[] content, int from, int to) {
+        return new ByteArrayInputStream(Arrays.copyOfRange(content, from, to));
+    }
+}
@@ -0,0 +1,106 @@
+package com.listo.eskalink.application.service;
+
+import com.listo.eskalink.application.enums.ResumeStatus;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.service.FileUploadService.StagedFile;
+import com.listo.eskalink.common.service.LocalS3StandIn;
+import com.listo.eskalink.common.repository.StoredFileRepository;
+import com.listo.eskalink.common.storage.S3StorageBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ResumeUploadWorkerTest {
+
+    private static final String BUCKET = "resumes-test";
+
+    @TempDir
+    Path stagingDirectory;
+
+    private LocalS3StandIn s3;
+    private S3StorageBackend storageBackend;
+    private FileUploadService fileUploadService;
+    private ApplicationRepository applicationRepository;
+    private ResumeUploadWorker worker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3StandIn();
+
+        storageBackend = new S3StorageBackend("test", "test", "us-east-1", BUCKET, s3.endpoint());
+        fileUploadService = new FileUploadService(storageBackend, mock(StoredFileRepository.class));
+        ReflectionTestUtils.setField(fileUploadService, "stagingDirectory", stagingDirectory.toString());
+
+        applicationRepository = mock(ApplicationRepository.class);
+        worker = new ResumeUploadWorker(fileUploadService, applicationRepository);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 2);
+        ReflectionTestUtils.setField(worker, "backoffMillis", 10L);
+        ReflectionTestUtils.setField(worker, "staleAfterMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageBackend.close();
+        s3.close();
+    }
+
+    @Test
+    void uploadsStagedResumeAndMarksItUploaded() throws Exception {
+        byte[] content = "%PDF-1.7 resume".getBytes();
+        StagedFile staged = fileUploadService.stageResume(
+                new MockMultipartFile("resume", "cv.pdf", "application/pdf", content));
+        UUID applicationId = UUID.randomUUID();
+
+        assertThat(staged.path()).exists();
+
+        worker.upload(applicationId, staged);
+
+        assertThat(s3.object(BUCKET, staged.key())).isNotNull();
+        assertThat(s3.object(BUCKET, staged.key()).content()).isEqualTo(content);
+        assertThat(staged.url()).isEqualTo(s3.endpoint() + "/" + BUCKET + "/" + staged.key());
+        verify(applicationRepository).markResumeUploaded(eq(applicationId), any(LocalDateTime.class));
+        assertThat(Files.exists(staged.path())).isFalse();
+    }
+
+    @Test
+    void marksResumeFailedAndCleansUpWhenStorageKeepsFailing() throws Exception {
+        StagedFile staged = fileUploadService.stageResume(
+                new MockMultipartFile("resume", "cv.pdf", "application/pdf", "%PDF-1.7".getBytes()));
+        UUID applicationId = UUID.randomUUID();
+        s3.failNextRequests(Integer.MAX_VALUE);
+
+        worker.upload(applicationId, staged);
+
+        assertThat(s3.objectCount()).isZero();
+        verify(applicationRepository).updateResumeStatus(applicationId, ResumeStatus.FAILED);
+        assertThat(Files.exists(staged.path())).isFalse();
+    }
+
+    @Test
+    void uploadNowMakesOneAttemptOnTheCallingThread() throws Exception {
+        StagedFile staged = fileUploadService.stageResume(
+                new MockMultipartFile("resume", "cv.pdf", "application/pdf", "%PDF-1.7".getBytes()));
+        UUID applicationId = UUID.randomUUID();
+        s3.failNextRequests(Integer.MAX_VALUE);
+
+        assertThat(worker.uploadNow(applicationId, staged)).isEqualTo(ResumeStatus.FAILED);
+
+        verify(applicationRepository).updateResumeStatus(applicationId, ResumeStatus.FAILED);
+        assertThat(Files.exists(staged.path())).isFalse();
+    }
+}
@@ -0,0 +1,36 @@
+package com.listo.eskalink.common.exception;
+
+import com.listo.eskalink.common.dto.BaseResponse;
+import com.listo.eskalink.common.storage.StorageException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void conflictIsMappedTo409() {
+        ResponseEntity<BaseResponse<Object>> response = handler.handleConflictException(
+                new ConflictException("Job was modified by another request, please reload and try again"),
+                new ServletWebRequest(new MockHttpServletRequest()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage())
+                .isEqualTo("Job was modified by another request, please reload and try again");
+    }
+
+    @Test
+    void storageFailureIsMappedTo503() {
+        ResponseEntity<BaseResponse<Object>> response = handler.handleStorageException(
+                new StorageException("Failed to store resume", new RuntimeException("timeout")),
+                new ServletWebRequest(new MockHttpServletRequest()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
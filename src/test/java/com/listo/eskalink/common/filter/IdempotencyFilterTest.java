@@ -0,0 +1,194 @@
+package com.listo.eskalink.common.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.listo.eskalink.common.service.IdempotencyService;
+import com.listo.eskalink.security.CustomUserDetails;
+import com.listo.eskalink.user.enums.UserRole;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private final CustomUserDetails user = new CustomUserDetails(UUID.randomUUID(), "company@acme.test", "secret",
+            true, List.of(), UserRole.COMPANY);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyService idempotencyService;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService();
+        ReflectionTestUtils.setField(idempotencyService, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 100);
+        filter = new IdempotencyFilter(idempotencyService, new ObjectMapper());
+        ReflectionTestUtils.setField(filter, "waitTimeoutMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void retryReplaysTheStoredResponseWithoutRunningTheHandler() throws Exception {
+        MockHttpServletResponse first = post("key-1", handler(201));
+        MockHttpServletResponse retry = post("key-1", handler(201));
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"n\":1}");
+        assertThat(retry.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    void serverErrorsAreNotStored() throws Exception {
+        post("key-2", handler(500));
+        MockHttpServletResponse retry = post("key-2", handler(201));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForTheFirstRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowHandler = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handler(201).doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> postQuietly("key-3", slowHandler));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> postQuietly("key-3", handler(201)));
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"n\":1}");
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void keyReusedForADifferentRequestIsRejected() throws Exception {
+        post("key-4", "{\"title\":\"Backend\"}", handler(201));
+        MockHttpServletResponse reused = post("key-4", "{\"title\":\"Frontend\"}", handler(201));
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    }
+
+    @Test
+    void handlerStillReadsTheHashedBody() throws Exception {
+        String body = "{\"title\":\"Backend\"}";
+        FilterChain echo = (request, response) -> {
+            executions.incrementAndGet();
+            response.getOutputStream().write(request.getInputStream().readAllBytes());
+        };
+
+        MockHttpServletResponse response = post("key-5", body, echo);
+
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    void fullStoreEvictsACompletedKeyToTrackANewOne() throws Exception {
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 1);
+
+        post("key-6", handler(201));
+        MockHttpServletResponse next = post("key-7", handler(201));
+        MockHttpServletResponse retry = post("key-7", handler(201));
+
+        assertThat(next.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void fullStoreOfRequestsInFlightRejectsInsteadOfRunningUntracked() throws Exception {
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowHandler = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handler(201).doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> inFlight =
+                CompletableFuture.supplyAsync(() -> postQuietly("key-8", slowHandler));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse rejected = post("key-9", handler(201));
+        release.countDown();
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+
+    private FilterChain handler(int status) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"n\":" + execution + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse post(String key, FilterChain chain) throws Exception {
+        return post(key, "{}", chain);
+    }
+
+    private MockHttpServletResponse post(String key, String body, FilterChain chain) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/jobs");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse postQuietly(String key, FilterChain chain) {
+        try {
+            return post(key, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.listo.eskalink.common.service;
+
+import com.listo.eskalink.common.storage.PresignedDownload;
+import com.listo.eskalink.common.storage.StorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DownloadUrlServiceTest {
+
+    private static final String FILE_URL = "https://bucket.s3.region.amazonaws.com/resumes/abc.pdf";
+    private static final String KEY = "resumes/abc.pdf";
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    private DownloadUrlService downloadUrlService;
+
+    @BeforeEach
+    void setUp() {
+        downloadUrlService = new DownloadUrlService(storageBackend);
+        ReflectionTestUtils.setField(downloadUrlService, "expirationSeconds", 900L);
+        ReflectionTestUtils.setField(downloadUrlService, "refreshMarginSeconds", 180L);
+        ReflectionTestUtils.setField(downloadUrlService, "cacheMaxEntries", 10);
+        when(storageBackend.keyFromUrl(FILE_URL)).thenReturn(KEY);
+    }
+
+    @Test
+    void downloadUrlReusesSignatureUntilShortlyBeforeExpiry() {
+        when(storageBackend.presignDownload(KEY, Duration.ofSeconds(900)))
+                .thenReturn(new PresignedDownload(KEY, "https://signed/1", Instant.now().plusSeconds(900)));
+
+        assertThat(downloadUrlService.downloadUrl(FILE_URL)).isEqualTo("https://signed/1");
+        assertThat(downloadUrlService.downloadUrl(FILE_URL)).isEqualTo("https://signed/1");
+
+        verify(storageBackend, times(1)).presignDownload(any(), any());
+    }
+
+    @Test
+    void downloadUrlResignsWhenCachedUrlIsAboutToExpire() {
+        when(storageBackend.presignDownload(KEY, Duration.ofSeconds(900)))
+                .thenReturn(new PresignedDownload(KEY, "https://signed/1", Instant.now().plusSeconds(60)))
+                .thenReturn(new PresignedDownload(KEY, "https://signed/2", Instant.now().plusSeconds(900)));
+
+        downloadUrlService.downloadUrl(FILE_URL);
+
+        assertThat(downloadUrlService.downloadUrl(FILE_URL)).isEqualTo("https://signed/2");
+        assertThat(downloadUrlService.purgeExpired()).isZero();
+    }
+
+    @Test
+    void purgeExpiredDropsUrlsInsideRefreshMargin() {
+        when(storageBackend.presignDownload(KEY, Duration.ofSeconds(900)))
+                .thenReturn(new PresignedDownload(KEY, "https://signed/1", Instant.now().plusSeconds(60)));
+
+        downloadUrlService.downloadUrl(FILE_URL);
+
+        assertThat(downloadUrlService.purgeExpired()).isEqualTo(1);
+    }
+}
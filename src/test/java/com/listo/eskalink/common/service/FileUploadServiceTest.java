@@ -0,0 +1,195 @@
+package com.listo.eskalink.common.service;
+
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.common.repository.StoredFileRepository;
+import com.listo.eskalink.common.storage.PresignedUpload;
+import com.listo.eskalink.common.storage.S3StorageBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FileUploadServiceTest {
+
+    private static final String BUCKET = "resumes-test";
+
+    @TempDir
+    Path stagingDirectory;
+
+    private LocalS3StandIn s3;
+    private S3StorageBackend storageBackend;
+    private StoredFileRepository storedFileRepository;
+    private FileUploadService fileUploadService;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3StandIn();
+
+        storedFileRepository = mock(StoredFileRepository.class);
+        storageBackend = new S3StorageBackend("test", "test", "us-east-1", BUCKET, s3.endpoint());
+        fileUploadService = new FileUploadService(storageBackend, storedFileRepository);
+        ReflectionTestUtils.setField(fileUploadService, "stagingDirectory", stagingDirectory.toString());
+        ReflectionTestUtils.setField(fileUploadService, "uploadUrlExpirationSeconds", 900L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageBackend.close();
+        s3.close();
+    }
+
+    @Test
+    void presignedUploadIsVerifiedWithHead() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        byte[] content = "%PDF-1.7 presigned".getBytes();
+
+        PresignedUpload upload = fileUploadService.presignResumeUpload("application/pdf", content.length, ownerId);
+        assertThat(upload.key()).matches("resumes/[0-9a-f\\-]{36}\\.pdf");
+        assertThat(upload.uploadUrl()).startsWith(s3.endpoint() + "/" + BUCKET + "/" + upload.key());
+
+        assertThat(put(upload, content)).isEqualTo(200);
+
+        String url = fileUploadService.verifyUploadedResume(upload.key(), ownerId);
+        assertThat(url).isEqualTo(s3.endpoint() + "/" + BUCKET + "/" + upload.key());
+    }
+
+    @Test
+    void verificationRejectsForeignOrMissingObjects() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        byte[] content = "%PDF-1.7".getBytes();
+        PresignedUpload upload = fileUploadService.presignResumeUpload("application/pdf", content.length, ownerId);
+
+        assertThatThrownBy(() -> fileUploadService.verifyUploadedResume(upload.key(), ownerId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Resume has not been uploaded");
+
+        put(upload, content);
+
+        assertThatThrownBy(() -> fileUploadService.verifyUploadedResume(upload.key(), UUID.randomUUID()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid resume key");
+        assertThatThrownBy(() -> fileUploadService.verifyUploadedResume("resumes/../secret.pdf", ownerId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid resume key");
+    }
+
+    @Test
+    void presignRejectsDisallowedTypesAndSizes() {
+        UUID ownerId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> fileUploadService.presignResumeUpload("image/png", 10, ownerId))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> fileUploadService.presignResumeUpload("application/pdf", 6L * 1024 * 1024, ownerId))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void identicalResumesShareOneContentAddressedObject() throws Exception {
+        byte[] content = "%PDF-1.7 same resume".getBytes();
+
+        FileUploadService.StagedFile first = fileUploadService.stageResume(
+                new MockMultipartFile("resume", "cv.pdf", "application/pdf", content));
+        FileUploadService.StagedFile second = fileUploadService.stageResume(
+                new MockMultipartFile("resume", "resume-final.pdf", "application/pdf", content));
+
+        assertThat(first.key()).isEqualTo(second.key()).matches("resumes/[0-9a-f]{64}\\.pdf");
+        assertThat(first.path()).isNotEqualTo(second.path());
+
+        fileUploadService.uploadStagedFile(first).join();
+        fileUploadService.uploadStagedFile(second).join();
+
+        assertThat(s3.objectCount()).isEqualTo(1);
+        assertThat(s3.object(BUCKET, first.key()).content()).isEqualTo(content);
+    }
+
+    @Test
+    void stagingSniffsContentInsteadOfTrustingDeclaredType() {
+        byte[] png = new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n'};
+
+        assertThatThrownBy(() -> fileUploadService.stageResume(
+                new MockMultipartFile("resume", "cv.pdf", "application/pdf", png)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Only PDF and DOCX files are allowed");
+    }
+
+    @Test
+    void stagedDocxIsStoredWithSniffedContentType() throws Exception {
+        byte[] docx = new byte[]{'P', 'K', 0x03, 0x04, 0x14, 0x00};
+
+        FileUploadService.StagedFile staged = fileUploadService.stageResume(new MockMultipartFile("resume", "cv.docx",
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document", docx));
+
+        assertThat(staged.key()).endsWith(".docx");
+        assertThat(staged.size()).isEqualTo(docx.length);
+    }
+
+    @Test
+    void deletingReleasesTrackedReferencesAndQueuesUntrackedFilesForPurge() {
+        String shared = storageBackend.url("resumes/" + "a".repeat(64) + ".pdf");
+        String legacy = storageBackend.url("resumes/" + UUID.randomUUID() + ".pdf");
+        s3.putObject(BUCKET, storageBackend.keyFromUrl(shared), new byte[]{1}, "application/pdf");
+        s3.putObject(BUCKET, storageBackend.keyFromUrl(legacy), new byte[]{1}, "application/pdf");
+        when(storedFileRepository.findTrackedKeys(any())).thenReturn(List.of(storageBackend.keyFromUrl(shared)));
+
+        int released = fileUploadService.deleteFiles(List.of(shared, shared, legacy));
+
+        assertThat(released).isEqualTo(3);
+        verify(storedFileRepository).release(eq(List.of(storageBackend.keyFromUrl(shared))), eq(2), any());
+        verify(storedFileRepository, never()).release(eq(List.of(storageBackend.keyFromUrl(legacy))), anyInt(), any());
+        verify(storedFileRepository).queueForPurge(eq(List.of(storageBackend.keyFromUrl(legacy))), any());
+        assertThat(s3.object(BUCKET, storageBackend.keyFromUrl(shared))).isNotNull();
+        assertThat(s3.object(BUCKET, storageBackend.keyFromUrl(legacy))).isNotNull();
+    }
+
+    @Test
+    void purgeDeletesObjectsOfPurgedRows() {
+        String key = "resumes/" + "b".repeat(64) + ".pdf";
+        s3.putObject(BUCKET, key, new byte[]{1}, "application/pdf");
+        when(storedFileRepository.purgeUnreferenced(any(), anyInt())).thenReturn(List.of(key));
+
+        assertThat(fileUploadService.purgeUnreferencedFiles()).isEqualTo(1);
+
+        assertThat(s3.object(BUCKET, key)).isNull();
+        verify(storedFileRepository, never()).queueForPurge(any(), any());
+    }
+
+    @Test
+    void purgeQueuesKeysAgainWhenStorageDeleteFails() {
+        String key = "resumes/" + "c".repeat(64) + ".pdf";
+        when(storedFileRepository.purgeUnreferenced(any(), anyInt())).thenReturn(List.of(key));
+        s3.failNextRequests(10);
+
+        assertThat(fileUploadService.purgeUnreferencedFiles()).isZero();
+
+        verify(storedFileRepository).queueForPurge(eq(List.of(key)), any());
+    }
+
+    private int put(PresignedUpload upload, byte[] content) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upload.uploadUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content));
+        upload.requiredHeaders().forEach((name, value) -> {
+            if (!name.equalsIgnoreCase("content-length")) {
+                request.header(name, value);
+            }
+        });
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,200 @@
+package com.listo.eskalink.common.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal in-process S3-compatible server for tests. Supports path-style PUT, GET, HEAD and DELETE of single
+ * objects plus batch DeleteObjects, which is all the application uses.
+ */
+public class LocalS3StandIn implements AutoCloseable {
+
+    private static final Pattern DELETE_KEY = Pattern.compile("<Key>(.*?)</Key>");
+
+    private final HttpServer server;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+
+    public record StoredObject(byte[] content, String contentType, Map<String, String> metadata) {
+    }
+
+    public LocalS3StandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public StoredObject object(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    public void putObject(String bucket, String key, byte[] content, String contentType) {
+        objects.put(bucket + "/" + key, new StoredObject(content, contentType, Map.of()));
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public void failNextRequests(int count) {
+        failuresRemaining.set(count);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = readBody(exchange);
+
+            if (failuresRemaining.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                respond(exchange, 500, xmlError("InternalError"));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath().substring(1);
+            String query = exchange.getRequestURI().getRawQuery();
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    objects.put(path, new StoredObject(body, exchange.getRequestHeaders().getFirst("Content-Type"),
+                            userMetadata(exchange)));
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+                    respond(exchange, 200, new byte[0]);
+                }
+                case "GET" -> {
+                    StoredObject object = objects.get(path);
+                    if (object == null) {
+                        respond(exchange, 404, xmlError("NoSuchKey"));
+                        return;
+                    }
+                    exchange.getResponseHeaders().add("Content-Type", object.contentType());
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(object.content()) + "\"");
+                    respond(exchange, 200, object.content());
+                }
+                case "HEAD" -> {
+                    StoredObject object = objects.get(path);
+                    if (object == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    exchange.getResponseHeaders().add("Content-Type", object.contentType());
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(object.content()) + "\"");
+                    exchange.getResponseHeaders().add("Content-Length", String.valueOf(object.content().length));
+                    object.metadata().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "DELETE" -> {
+                    objects.remove(path);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                case "POST" -> {
+                    if (query == null || !query.startsWith("delete")) {
+                        respond(exchange, 400, xmlError("NotImplemented"));
+                        return;
+                    }
+                    Matcher matcher = DELETE_KEY.matcher(new String(body, StandardCharsets.UTF_8));
+                    while (matcher.find()) {
+                        objects.remove(path + "/" + matcher.group(1));
+                    }
+                    respond(exchange, 200, "<DeleteResult></DeleteResult>".getBytes(StandardCharsets.UTF_8));
+                }
+                default -> respond(exchange, 405, xmlError("MethodNotAllowed"));
+            }
+        }
+    }
+
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream input = exchange.getRequestBody()) {
+            raw = input.readAllBytes();
+        }
+
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        boolean awsChunked = (contentSha != null && contentSha.startsWith("STREAMING-"))
+                || (contentEncoding != null && contentEncoding.contains("aws-chunked"));
+        return awsChunked ? decodeAwsChunked(raw) : raw;
+    }
+
+    private Map<String, String> userMetadata(HttpExchange exchange) {
+        Map<String, String> metadata = new HashMap<>();
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (name.toLowerCase().startsWith("x-amz-meta-") && !values.isEmpty()) {
+                metadata.put(name.toLowerCase(), values.get(0));
+            }
+        });
+        return metadata;
+    }
+
+    private byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, position, size);
+            position += size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private int indexOfCrlf(byte[] raw, int from) {
+        for (int i = from; i < raw.length - 1; i++) {
+            if (raw[i] == '\r' && raw[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return raw.length;
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    private byte[] xmlError(String code) {
+        return ("<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String md5Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
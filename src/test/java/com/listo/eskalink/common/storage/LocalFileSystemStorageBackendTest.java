@@ -0,0 +1,82 @@
+package com.listo.eskalink.common.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileSystemStorageBackendTest extends StorageBackendContractTest {
+
+    @TempDir
+    Path rootDirectory;
+
+    private LocalFileSystemStorageBackend backend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        backend = new LocalFileSystemStorageBackend(rootDirectory.toString(), "http://localhost:8080/files/", "test-signing-key");
+    }
+
+    @Override
+    protected StorageBackend backend() {
+        return backend;
+    }
+
+    @Test
+    void rejectsKeysOutsideRoot() {
+        assertThatThrownBy(() -> backend.put("../escape.pdf", new ByteArrayInputStream(new byte[1]), 1,
+                "application/pdf", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> backend.head(".metadata/resumes/a.pdf.properties"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void urlUsesConfiguredBaseUrl() {
+        assertThat(backend.url("resumes/a.pdf")).isEqualTo("http://localhost:8080/files/resumes/a.pdf");
+    }
+
+    @Test
+    void presignedDownloadIsSignedForItsKeyAndExpiry() {
+        PresignedDownload download = backend.presignDownload("resumes/a.pdf", Duration.ofMinutes(5));
+        long expires = Long.parseLong(queryParameter(download, "expires"));
+        String signature = queryParameter(download, "signature");
+
+        assertThat(download.downloadUrl()).startsWith("http://localhost:8080/files/resumes/a.pdf?");
+        assertThat(expires).isEqualTo(download.expiresAt().getEpochSecond());
+        assertThat(backend.verifyDownload("resumes/a.pdf", expires, signature)).isTrue();
+        assertThat(backend.verifyDownload("resumes/b.pdf", expires, signature)).isFalse();
+        assertThat(backend.verifyDownload("resumes/a.pdf", expires + 60, signature)).isFalse();
+    }
+
+    @Test
+    void expiredDownloadLinksAreRejected() {
+        PresignedDownload download = backend.presignDownload("resumes/a.pdf", Duration.ofSeconds(-5));
+
+        assertThat(backend.verifyDownload("resumes/a.pdf", Long.parseLong(queryParameter(download, "expires")),
+                queryParameter(download, "signature"))).isFalse();
+    }
+
+    @Test
+    void presignedUploadsAreUnsupported() {
+        assertThat(backend.presignUpload("resumes/a.pdf", "application/pdf", 1, Map.of(), Duration.ofMinutes(1)))
+                .isEmpty();
+    }
+
+    private static String queryParameter(PresignedDownload download, String name) {
+        String query = download.downloadUrl().substring(download.downloadUrl().indexOf('?') + 1);
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return parameter.substring(name.length() + 1);
+            }
+        }
+        throw new AssertionError("Missing query parameter: " + name);
+    }
+}
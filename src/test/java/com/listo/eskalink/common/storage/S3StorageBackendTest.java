@@ -0,0 +1,28 @@
+package com.listo.eskalink.common.storage;
+
+import com.listo.eskalink.common.service.LocalS3StandIn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+class S3StorageBackendTest extends StorageBackendContractTest {
+
+    private LocalS3StandIn s3;
+    private S3StorageBackend backend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = new LocalS3StandIn();
+        backend = new S3StorageBackend("test", "test", "us-east-1", "resumes-test", s3.endpoint());
+    }
+
+    @AfterEach
+    void tearDown() {
+        backend.close();
+        s3.close();
+    }
+
+    @Override
+    protected StorageBackend backend() {
+        return backend;
+    }
+}
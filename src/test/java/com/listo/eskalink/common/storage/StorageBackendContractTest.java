@@ -0,0 +1,99 @@
+package com.listo.eskalink.common.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+abstract class StorageBackendContractTest {
+
+    @TempDir
+    Path workingDirectory;
+
+    protected abstract StorageBackend backend();
+
+    @Test
+    void storesFileWithContentTypeAndMetadata() throws Exception {
+        byte[] content = "%PDF-1.7 from file".getBytes(StandardCharsets.UTF_8);
+        Path source = Files.write(workingDirectory.resolve("cv.pdf"), content);
+
+        backend().put("resumes/from-file.pdf", source, "application/pdf", Map.of("owner-id", "42"));
+
+        StoredObjectInfo info = backend().head("resumes/from-file.pdf").orElseThrow();
+        assertThat(info.size()).isEqualTo(content.length);
+        assertThat(info.contentType()).isEqualTo("application/pdf");
+        assertThat(info.metadata()).containsEntry("owner-id", "42");
+        assertThat(read("resumes/from-file.pdf")).isEqualTo(content);
+    }
+
+    @Test
+    void storesStreamAndTransfersItToChannel() throws Exception {
+        byte[] content = new byte[256 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+
+        backend().put("resumes/from-stream.docx", new ByteArrayInputStream(content), content.length,
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document", Map.of());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long transferred = backend().transferTo("resumes/from-stream.docx", Channels.newChannel(output));
+
+        assertThat(transferred).isEqualTo(content.length);
+        assertThat(output.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void putAsyncCompletesWithStoredObject() throws Exception {
+        byte[] content = "%PDF-1.7 async".getBytes(StandardCharsets.UTF_8);
+        Path source = Files.write(workingDirectory.resolve("async.pdf"), content);
+
+        backend().putAsync("resumes/async.pdf", source, "application/pdf", Map.of()).join();
+
+        assertThat(read("resumes/async.pdf")).isEqualTo(content);
+    }
+
+    @Test
+    void headOfMissingObjectIsEmpty() {
+        assertThat(backend().head("resumes/missing.pdf")).isEmpty();
+    }
+
+    @Test
+    void deletesSingleAndBatchedKeys() throws Exception {
+        for (String key : List.of("resumes/a.pdf", "resumes/b.pdf", "resumes/c.pdf")) {
+            byte[] content = key.getBytes(StandardCharsets.UTF_8);
+            backend().put(key, new ByteArrayInputStream(content), content.length, "application/pdf", Map.of());
+        }
+
+        backend().delete("resumes/a.pdf");
+        assertThat(backend().head("resumes/a.pdf")).isEmpty();
+        assertThat(backend().head("resumes/b.pdf")).isPresent();
+
+        assertThat(backend().deleteAll(List.of("resumes/b.pdf", "resumes/c.pdf"))).isEqualTo(2);
+        assertThat(backend().head("resumes/b.pdf")).isEmpty();
+        assertThat(backend().head("resumes/c.pdf")).isEmpty();
+    }
+
+    @Test
+    void urlRoundTripsToKey() {
+        String url = backend().url("resumes/round-trip.pdf");
+
+        assertThat(backend().keyFromUrl(url)).isEqualTo("resumes/round-trip.pdf");
+    }
+
+    private byte[] read(String key) throws Exception {
+        try (InputStream input = backend().openStream(key)) {
+            return input.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.listo.eskalink.job.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.listo.eskalink.job.dto.JobListDto;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.enums.JobStatus;
+import com.listo.eskalink.job.event.JobChangedEvent;
+import com.listo.eskalink.job.mapper.JobMapper;
+import com.listo.eskalink.job.repository.JobRepository;
+import com.listo.eskalink.user.entity.User;
+import com.listo.eskalink.user.enums.UserRole;
+import com.listo.eskalink.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CareersPageServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobMapper jobMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CareersPageService careersPageService;
+
+    private final UUID companyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        careersPageService = new CareersPageService(jobRepository, userRepository, jobMapper,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager);
+        User company = User.builder().id(companyId).name("Acme").role(UserRole.COMPANY).build();
+        when(userRepository.findById(companyId)).thenReturn(Optional.of(company));
+    }
+
+    @Test
+    void cachedPageIsServedWithoutATransaction() {
+        when(jobRepository.findByCompanyIdAndStatusWithCompany(companyId, JobStatus.OPEN)).thenReturn(List.of());
+
+        CareersPageService.CareersPageSnapshot first = careersPageService.getCareersPage(companyId);
+        clearInvocations(transactionManager, userRepository, jobRepository);
+
+        assertThat(careersPageService.getCareersPage(companyId)).isSameAs(first);
+        verifyNoInteractions(transactionManager, userRepository, jobRepository);
+    }
+
+    @Test
+    void buildOverlappingAJobChangeIsNotCached() {
+        when(jobRepository.findByCompanyIdAndStatusWithCompany(companyId, JobStatus.OPEN))
+                .thenAnswer(invocation -> {
+                    careersPageService.onJobChanged(new JobChangedEvent(UUID.randomUUID(), companyId));
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        CareersPageService.CareersPageSnapshot stale = careersPageService.getCareersPage(companyId);
+        CareersPageService.CareersPageSnapshot fresh = careersPageService.getCareersPage(companyId);
+
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(careersPageService.getCareersPage(companyId)).isSameAs(fresh);
+        verify(jobRepository, times(2)).findByCompanyIdAndStatusWithCompany(any(), any());
+    }
+
+    @Test
+    void etagChangesWithContentAndSurvivesRebuilds() {
+        JobListDto job = new JobListDto();
+        job.setId(UUID.randomUUID());
+        job.setTitle("Engineer");
+        when(jobRepository.findByCompanyIdAndStatusWithCompany(companyId, JobStatus.OPEN))
+                .thenReturn(List.of(Job.builder().build()));
+        when(jobMapper.jobToJobListDto(any())).thenReturn(job);
+
+        String original = careersPageService.getCareersPage(companyId).etag();
+        careersPageService.onJobChanged(new JobChangedEvent(UUID.randomUUID(), companyId));
+        String rebuilt = careersPageService.getCareersPage(companyId).etag();
+
+        job.setTitle("Senior Engineer");
+        careersPageService.onJobChanged(new JobChangedEvent(UUID.randomUUID(), companyId));
+        String changed = careersPageService.getCareersPage(companyId).etag();
+
+        assertThat(rebuilt).isEqualTo(original);
+        assertThat(changed).isNotEqualTo(original);
+    }
+}
@@ -0,0 +1,100 @@
+package com.listo.eskalink.job.service;
+
+import com.listo.eskalink.application.dto.ApplicationStatusChange;
+import com.listo.eskalink.application.enums.ApplicationStatus;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.service.ApplicationStatusHistoryService;
+import com.listo.eskalink.job.enums.JobClosureStatus;
+import com.listo.eskalink.job.repository.JobClosureRepository;
+import com.listo.eskalink.user.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobClosureWorkerTest {
+
+    @Mock
+    private JobClosureRepository jobClosureRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private ApplicationStatusHistoryService statusHistoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobClosureWorker worker;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        worker = new JobClosureWorker(jobClosureRepository, applicationRepository, emailService,
+                statusHistoryService, eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(worker, "chunkSize", 2);
+        ReflectionTestUtils.setField(worker, "staleAfterMs", 60_000L);
+        when(jobClosureRepository.claim(eq(jobId), any(), anyInt(), any())).thenReturn(1);
+    }
+
+    @Test
+    void fullChunkLeavesTheClosurePendingForTheScheduler() {
+        List<ApplicationStatusChange> chunk = List.of(change(), change());
+        when(applicationRepository.rejectPendingOfClosedJob(jobId, 2)).thenReturn(chunk);
+
+        assertThat(worker.process(jobId)).isEqualTo(2);
+
+        verify(applicationRepository, times(1)).rejectPendingOfClosedJob(jobId, 2);
+        verify(jobClosureRepository).recordProgress(eq(jobId), eq(2L), eq(JobClosureStatus.PENDING), any());
+        verify(emailService).sendApplicationStatusUpdates(anyList(), eq(ApplicationStatus.REJECTED));
+    }
+
+    @Test
+    void shortChunkCompletesTheClosure() {
+        List<ApplicationStatusChange> chunk = List.of(change());
+        when(applicationRepository.rejectPendingOfClosedJob(jobId, 2)).thenReturn(chunk);
+
+        assertThat(worker.process(jobId)).isEqualTo(1);
+
+        verify(jobClosureRepository).recordProgress(eq(jobId), eq(1L), eq(JobClosureStatus.COMPLETED), any());
+    }
+
+    @Test
+    void failedChunkIsRecordedForRetry() {
+        when(applicationRepository.rejectPendingOfClosedJob(jobId, 2))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        assertThat(worker.process(jobId)).isZero();
+
+        verify(jobClosureRepository).recordFailure(eq(jobId), eq("connection lost"), any());
+        verify(jobClosureRepository, never()).recordProgress(any(), anyLong(), any(), any());
+        verifyNoInteractions(emailService);
+    }
+
+    private ApplicationStatusChange change() {
+        ApplicationStatusChange change = mock(ApplicationStatusChange.class);
+        when(change.getApplicationId()).thenReturn(UUID.randomUUID());
+        return change;
+    }
+}
@@ -0,0 +1,141 @@
+package com.listo.eskalink.job.service;
+
+import com.listo.eskalink.application.entity.Application;
+import com.listo.eskalink.application.repository.ApplicationRepository;
+import com.listo.eskalink.application.repository.ApplicationStatusHistoryRepository;
+import com.listo.eskalink.application.repository.ApplicationTextRepository;
+import com.listo.eskalink.application.repository.FunnelDailyCountRepository;
+import com.listo.eskalink.application.repository.FunnelDailyDurationRepository;
+import com.listo.eskalink.common.repository.StoredFileRepository;
+import com.listo.eskalink.common.service.FileUploadService;
+import com.listo.eskalink.common.storage.StorageBackend;
+import com.listo.eskalink.job.enums.JobDeletionStatus;
+import com.listo.eskalink.job.repository.JobDeletionRepository;
+import com.listo.eskalink.job.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobDeletionWorkerTest {
+
+    private static final String SHARED_RESUME = "resumes/shared.pdf";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobDeletionRepository jobDeletionRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationTextRepository applicationTextRepository;
+
+    @Mock
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Mock
+    private FunnelDailyCountRepository funnelDailyCountRepository;
+
+    @Mock
+    private FunnelDailyDurationRepository funnelDailyDurationRepository;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private StoredFileRepository storedFileRepository;
+
+    private final BufferingTransactionManager transactionManager = new BufferingTransactionManager();
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    private final UUID jobId = UUID.randomUUID();
+
+    private JobDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadService fileUploadService = new FileUploadService(storageBackend, storedFileRepository);
+        worker = new JobDeletionWorker(jobRepository, jobDeletionRepository, applicationRepository,
+                applicationTextRepository, statusHistoryRepository, funnelDailyCountRepository,
+                funnelDailyDurationRepository, fileUploadService, transactionManager);
+        ReflectionTestUtils.setField(worker, "chunkSize", 10);
+        ReflectionTestUtils.setField(worker, "staleAfterMs", 60_000L);
+
+        when(storageBackend.keyFromUrl(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(storedFileRepository.findTrackedKeys(anyCollection())).thenReturn(List.of(SHARED_RESUME));
+        when(storedFileRepository.release(anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            int references = invocation.getArgument(1);
+            transactionManager.onCommit(() -> keys.forEach(key -> refCounts.merge(key, -references, Integer::sum)));
+            return keys.size();
+        });
+        when(jobDeletionRepository.claim(eq(jobId), any(), anyInt(), any())).thenReturn(1);
+    }
+
+    @Test
+    void failedChunkDoesNotReleaseSharedResumeTwice() {
+        refCounts.put(SHARED_RESUME, 2);
+        Application application = Application.builder().id(UUID.randomUUID()).resumeLink(SHARED_RESUME).build();
+        when(applicationRepository.findByJobId(eq(jobId), any()))
+                .thenReturn(List.of(application))
+                .thenReturn(List.of(application));
+        when(applicationRepository.deleteByIdIn(List.of(application.getId())))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenReturn(1);
+
+        worker.process(jobId);
+        assertThat(refCounts).containsEntry(SHARED_RESUME, 2);
+        verify(jobDeletionRepository).updateStatus(eq(jobId), eq(JobDeletionStatus.FAILED), anyString(),
+                any(LocalDateTime.class));
+
+        worker.process(jobId);
+        assertThat(refCounts).containsEntry(SHARED_RESUME, 1);
+        verify(jobRepository).hardDeleteById(jobId);
+        verify(storageBackend, never()).deleteAll(anyList());
+    }
+
+    /**
+     * Applies work registered during a transaction only when it commits, like the database would.
+     */
+    private static final class BufferingTransactionManager implements PlatformTransactionManager {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        void onCommit(Runnable work) {
+            pending.add(work);
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            pending.forEach(Runnable::run);
+            pending.clear();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.listo.eskalink.job.service;
+
+import com.listo.eskalink.common.exception.ConflictException;
+import com.listo.eskalink.common.exception.ValidationException;
+import com.listo.eskalink.job.dto.UpdateJobRequest;
+import com.listo.eskalink.job.entity.Job;
+import com.listo.eskalink.job.enums.JobStatus;
+import com.listo.eskalink.job.mapper.JobMapper;
+import com.listo.eskalink.job.repository.JobClosureRepository;
+import com.listo.eskalink.job.repository.JobDeletionRepository;
+import com.listo.eskalink.job.repository.JobRepository;
+import com.listo.eskalink.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobDeletionRepository jobDeletionRepository;
+
+    @Mock
+    private JobClosureRepository jobClosureRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobMapper jobMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SearchQueryLogService searchQueryLogService;
+
+    @InjectMocks
+    private JobService jobService;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID companyId = UUID.randomUUID();
+
+    @Test
+    void updateJobWithStaleVersionIsAConflict() {
+        UpdateJobRequest request = new UpdateJobRequest();
+        request.setTitle("Backend Engineer");
+        request.setVersion(3L);
+        when(jobRepository.updateJobConditionally(eq(jobId), eq(companyId), eq("Backend Engineer"), any(), any(),
+                any(), anyList(), eq(3L))).thenReturn(Optional.empty());
+        Job job = Job.builder().id(jobId).status(JobStatus.OPEN).version(4L).build();
+        when(jobRepository.findByIdAndCreatedById(jobId, companyId)).thenReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> jobService.updateJob(jobId, request, companyId))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Job was modified by another request, please reload and try again");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateJobWithoutVersionIsRejected() {
+        UpdateJobRequest request = new UpdateJobRequest();
+        request.setTitle("Backend Engineer");
+
+        assertThatThrownBy(() -> jobService.updateJob(jobId, request, companyId))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Version is required");
+        verifyNoInteractions(jobRepository);
+    }
+}